@@ -0,0 +1,80 @@
+package com.app.echoboard.jmh;
+
+import com.app.echoboard.dto.CursorPage;
+import com.app.echoboard.dto.UserSummary;
+import com.app.echoboard.model.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding cost of one user list page per response format, with and without gzip
+ * The average time is the server CPU per response; the bytes on the wire are printed once per trial
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"none", "gzip"})
+    public String compression;
+
+    // Default and maximum page size of the list endpoints
+    @Param({"50", "200"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private CursorPage<UserSummary> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+
+        Role[] roles = Role.values();
+        String[] providers = {"github", "google", null};
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 30);
+        List<UserSummary> users = new ArrayList<>();
+        for (int i = 1; i <= pageSize; i++) {
+            String provider = providers[i % providers.length];
+            users.add(new UserSummary((long) i, "user" + i + "@echoboard.com", "User Number " + i,
+                i % 2 == 0 ? "https://avatars.example.com/u/" + i : null, roles[i % roles.length],
+                provider, provider != null ? "user-" + i : null, i % 10 != 0, createdAt.plusMinutes(i)));
+        }
+        page = new CursorPage<>(users, CursorPage.encodeCursor(pageSize));
+
+        System.out.printf("[ContentEncodingBenchmark] %s/%s, %d users: %d bytes on the wire%n",
+            format, compression, pageSize, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws IOException {
+        return encode();
+    }
+
+    private byte[] encode() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 * 1024);
+        try (OutputStream out = "gzip".equals(compression) ? new GZIPOutputStream(buffer, 8 * 1024) : buffer) {
+            objectMapper.writeValue(out, page);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,60 @@
+package com.app.echoboard.jmh;
+
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.ProjectMemberRepository;
+import com.app.echoboard.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the observability instrumentation on repository calls
+ * none: no repository timers, no Hibernate statistics; timers: repository timers with histograms;
+ * all: timers plus Hibernate statistics (the shipped configuration)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationOverheadBenchmark {
+
+    @Param({"none", "timers", "all"})
+    public String instrumentation;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Setup(Level.Trial)
+    public void start() {
+        String timers = "management.metrics.data.repository.autotime.enabled=" + !"none".equals(instrumentation);
+        String statistics = "spring.jpa.properties.hibernate.generate_statistics=" + "all".equals(instrumentation);
+        context = SeededApplication.launch(timers, statistics);
+        userRepository = context.getBean(UserRepository.class);
+        projectMemberRepository = context.getBean(ProjectMemberRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    // Second-level cache hit: the cheapest call, where fixed overhead shows most
+    @Benchmark
+    public Optional<User> findByIdCached() {
+        return userRepository.findById(1L + ThreadLocalRandom.current().nextLong(100));
+    }
+
+    @Benchmark
+    public Optional<ProjectMember> findByProjectIdAndUserId() {
+        long projectId = ThreadLocalRandom.current().nextLong(1, SeededApplication.PROJECTS + 1);
+        long userId = (projectId * SeededApplication.MEMBERS_PER_PROJECT) % SeededApplication.USERS + 1;
+        return projectMemberRepository.findByProjectIdAndUserId(projectId, userId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.app.echoboard.jmh;
+
+import com.app.echoboard.dto.UserSummary;
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of API payloads, with the same ObjectMapper defaults as the web layer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private User user;
+    private Project project;
+    private UserSummary summary;
+    private List<UserSummary> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        user = new User("ada@echoboard.com", "Ada Lovelace", Role.DEVELOPER, "github", "1815");
+        user.setId(1L);
+        user.setOauthUsername("ada-l");
+        user.setAvatarUrl("https://avatars.example.com/u/1815");
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+
+        project = new Project("Analytical Engine", "Redesign of the onboarding flow for the mobile app", user);
+        project.setId(1L);
+        project.setGithubRepoOwner("echoboard");
+        project.setGithubRepoName("analytical-engine");
+
+        summary = UserSummary.from(user);
+        page = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            page.add(summary);
+        }
+    }
+
+    @Benchmark
+    public byte[] userEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] projectEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(project);
+    }
+
+    @Benchmark
+    public byte[] userSummary() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summary);
+    }
+
+    // One keyset page of the user list endpoints
+    @Benchmark
+    public byte[] userSummaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
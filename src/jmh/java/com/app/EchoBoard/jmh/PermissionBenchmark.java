@@ -0,0 +1,61 @@
+package com.app.echoboard.jmh;
+
+import com.app.echoboard.index.ProjectMembershipIndex;
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission checks: entity-level rules and the in-memory membership index
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PermissionBenchmark {
+
+    @Param({"DEVELOPER", "STAKEHOLDER"})
+    public Role role;
+
+    @Param({"view", "edit"})
+    public String action;
+
+    private ProjectMember member;
+    private ProjectMembershipIndex index;
+
+    @Setup
+    public void setUp() {
+        User user = new User("perm@echoboard.com", "Perm User", role);
+        Project project = new Project("Permission Project", null, user);
+        member = new ProjectMember(project, user, role);
+
+        index = new ProjectMembershipIndex();
+        for (long projectId = 1; projectId <= 10_000; projectId++) {
+            for (long userId = 1; userId <= 5; userId++) {
+                index.apply(projectId, projectId * 5 + userId, role);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean memberHasPermission() {
+        return member.hasPermission(action, "feedback");
+    }
+
+    @Benchmark
+    public boolean roleCanView() {
+        return role.canView("feedback");
+    }
+
+    @Benchmark
+    public boolean indexHasPermission() {
+        Role active = index.activeRole(5_000L, 25_003L);
+        return active != null && active.allows(action, "feedback");
+    }
+}
@@ -0,0 +1,68 @@
+package com.app.echoboard.jmh;
+
+import com.app.echoboard.dto.RegistrationResult;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import com.app.echoboard.service.EmailIndexService;
+import com.app.echoboard.service.UserRegistrationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registration throughput: the single-user path of POST /api/users/register
+ * and the batch path of POST /api/users/register/batch
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistrationBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private UserRepository userRepository;
+    private EmailIndexService emailIndexService;
+    private UserRegistrationService userRegistrationService;
+
+    @Setup
+    public void setUp(SeededApplication application) {
+        userRepository = application.bean(UserRepository.class);
+        emailIndexService = application.bean(EmailIndexService.class);
+        userRegistrationService = application.bean(UserRegistrationService.class);
+    }
+
+    // Same steps as UserController.registerUser
+    @Benchmark
+    public User registerOne() {
+        String email = nextEmail();
+        if (emailIndexService.isRegistered(email)) {
+            throw new IllegalStateException("Duplicate email " + email);
+        }
+        User saved = userRepository.save(new User(email, "Registered User", Role.DEVELOPER));
+        emailIndexService.registered(email);
+        return saved;
+    }
+
+    // Score is batches per second; multiply by BATCH_SIZE for users per second
+    @Benchmark
+    public List<RegistrationResult> registerBatch() {
+        List<User> users = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            users.add(new User(nextEmail(), "Batch User", Role.DESIGNER));
+        }
+        return userRegistrationService.registerAll(users);
+    }
+
+    private String nextEmail() {
+        return "register" + sequence.incrementAndGet() + "@echoboard.com";
+    }
+}
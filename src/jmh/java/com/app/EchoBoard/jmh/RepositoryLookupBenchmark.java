@@ -0,0 +1,58 @@
+package com.app.echoboard.jmh;
+
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.ProjectMemberRepository;
+import com.app.echoboard.repository.ProjectRepository;
+import com.app.echoboard.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository lookups against the seeded H2 database
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryLookupBenchmark {
+
+    private UserRepository userRepository;
+    private ProjectRepository projectRepository;
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Setup
+    public void setUp(SeededApplication application) {
+        userRepository = application.bean(UserRepository.class);
+        projectRepository = application.bean(ProjectRepository.class);
+        projectMemberRepository = application.bean(ProjectMemberRepository.class);
+    }
+
+    @Benchmark
+    public Optional<User> findByEmail() {
+        return userRepository.findByEmail(SeededApplication.email(randomUserId()));
+    }
+
+    @Benchmark
+    public Optional<ProjectMember> findByProjectIdAndUserId() {
+        long projectId = ThreadLocalRandom.current().nextLong(1, SeededApplication.PROJECTS + 1);
+        long userId = (projectId * SeededApplication.MEMBERS_PER_PROJECT) % SeededApplication.USERS + 1;
+        return projectMemberRepository.findByProjectIdAndUserId(projectId, userId);
+    }
+
+    @Benchmark
+    public List<Project> findActiveProjectsByUserId() {
+        return projectRepository.findActiveProjectsByUserId(randomUserId());
+    }
+
+    private static long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, SeededApplication.USERS + 1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.echoboard.jmh;
+
+import com.app.echoboard.EchoboardApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application context on a seeded in-memory H2 database, shared by the benchmarks of one fork
+ * Users 1..USERS, projects 1..PROJECTS; project p has MEMBERS_PER_PROJECT active members
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    static final int USERS = 10_000;
+    static final int PROJECTS = 2_000;
+    static final int MEMBERS_PER_PROJECT = 5;
+
+    private static final String[] ROLES = {"DEVELOPER", "DESIGNER", "PRODUCT_OWNER", "STAKEHOLDER"};
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = launch();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Start a seeded application; each call gets its own in-memory database
+     * @param properties extra application properties
+     */
+    static ConfigurableApplicationContext launch(String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EchoboardApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties("spring.datasource.url=jdbc:h2:mem:jmh" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1")
+            .properties(properties)
+            .run();
+        seed(context.getBean(JdbcTemplate.class));
+        return context;
+    }
+
+    static String email(long userId) {
+        return "jmh" + userId + "@echoboard.com";
+    }
+
+    // Bulk seed through JDBC, IDs chosen here (sequences start above them)
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>();
+        for (long u = 1; u <= USERS; u++) {
+            users.add(new Object[]{u, email(u), "Jmh User " + u, ROLES[(int) (u % ROLES.length)], true, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, name, role, is_active, created_at) VALUES (?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> projects = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        long memberId = 1;
+        for (long p = 1; p <= PROJECTS; p++) {
+            projects.add(new Object[]{p, "Jmh Project " + p, "ACTIVE", 1L, false, 10, MEMBERS_PER_PROJECT, now});
+            for (int m = 0; m < MEMBERS_PER_PROJECT; m++) {
+                long userId = (p * MEMBERS_PER_PROJECT + m) % USERS + 1;
+                members.add(new Object[]{memberId++, p, userId, ROLES[m % ROLES.length], "ACTIVE", now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, name, status, created_by, is_public, max_members, active_member_count, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", projects);
+        jdbcTemplate.batchUpdate("INSERT INTO project_members (id, project_id, user_id, project_role, status, joined_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)", members);
+
+        // Move the pooled-lo sequences past the seeded IDs so registrations can insert
+        jdbcTemplate.execute("ALTER SEQUENCE users_seq RESTART WITH " + (USERS + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE projects_seq RESTART WITH " + (PROJECTS + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE project_members_seq RESTART WITH " + memberId);
+    }
+}
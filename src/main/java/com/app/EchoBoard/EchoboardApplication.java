@@ -2,8 +2,10 @@ package com.app.echoboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is only used by the reactive read API, which builds its own pool (see ReactiveDataConfig)
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class EchoboardApplication {
 
 	public static void main(String[] args) {
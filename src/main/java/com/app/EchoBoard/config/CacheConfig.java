@@ -0,0 +1,75 @@
+package com.app.echoboard.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Second-level cache configuration
+ * Hibernate L2 and query cache regions backed by Caffeine through JCache
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class CacheConfig {
+
+    // Entity regions (names referenced from @Cache)
+    public static final String USERS_REGION = "users";
+    public static final String PROJECTS_REGION = "projects";
+    public static final String PROJECT_MEMBERS_REGION = "project-members";
+
+    // Hibernate's default query cache regions
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final List<String> REGIONS = List.of(
+        USERS_REGION, PROJECTS_REGION, PROJECT_MEMBERS_REGION, QUERY_RESULTS_REGION);
+
+    /**
+     * JCache manager handed to Hibernate
+     * Each application context gets its own manager so test contexts never share regions
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("echoboard:l2:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : REGIONS) {
+            cacheManager.createCache(region, regionConfiguration(
+                properties.ttlFor(region), properties.maxSizeFor(region)));
+        }
+        // Timestamps must outlive every cached query result, so this region never expires
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, regionConfiguration(
+            Duration.ZERO, properties.maxSizeFor(UPDATE_TIMESTAMPS_REGION)));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(Duration ttl, long maxSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttl != null && ttl.compareTo(Duration.ZERO) > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,143 @@
+package com.app.echoboard.config;
+
+import com.app.echoboard.datasource.DataSourceGate;
+import com.app.echoboard.datasource.DataSourceGateProperties;
+import com.app.echoboard.datasource.GatedDataSource;
+import com.app.echoboard.datasource.ReadYourWrites;
+import com.app.echoboard.datasource.ReplicaRoutingDataSource;
+import com.app.echoboard.datasource.ReplicaRoutingProperties;
+import com.app.echoboard.monitoring.SlowQueryLog;
+import com.app.echoboard.monitoring.SlowQueryLogDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource configuration
+ * Puts the concurrency gate in front of the connection pool (echoboard.datasource.gate.*) and the
+ * slow-query log around it (echoboard.sql.slow-query.*); when echoboard.datasource.routing.enabled is set,
+ * replaces the auto-configured pool with a primary/replica router
+ */
+@Configuration
+@EnableConfigurationProperties({DataSourceGateProperties.class, ReplicaRoutingProperties.class})
+public class DataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "echoboard.datasource.gate.enabled", havingValue = "true", matchIfMissing = true)
+    public DataSourceGate dataSourceGate(DataSourceGateProperties properties) {
+        return new DataSourceGate(properties.getMaxConcurrency(), properties.getAcquireTimeout());
+    }
+
+    /**
+     * Wrap the pool DataSource bean once it is initialized (static: post-processors are created before other beans)
+     * Proxies and routers are skipped; the router is wrapped where it is built
+     */
+    @Bean
+    public static BeanPostProcessor dataSourcePostProcessor(ObjectProvider<DataSourceGate> gate,
+                                                            ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof DelegatingDataSource)
+                        && !(bean instanceof AbstractRoutingDataSource)) {
+                    DataSourceGate availableGate = gate.getIfAvailable();
+                    DataSource wrapped = availableGate != null ? new GatedDataSource(dataSource, availableGate) : dataSource;
+                    return withSlowQueryLog(wrapped, slowQueryLog);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static DataSource withSlowQueryLog(DataSource dataSource, ObjectProvider<SlowQueryLog> slowQueryLog) {
+        SlowQueryLog available = slowQueryLog.getIfAvailable();
+        return available != null ? new SlowQueryLogDataSource(dataSource, available) : dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "echoboard.datasource.routing.enabled", havingValue = "true")
+    public ReadYourWrites readYourWrites(ReplicaRoutingProperties routing) {
+        return new ReadYourWrites(routing.getReadYourWritesWindow());
+    }
+
+    /**
+     * Primary pool (spring.datasource.* and spring.datasource.hikari.*) plus one read-only pool per replica
+     */
+    @Bean
+    @ConditionalOnProperty(name = "echoboard.datasource.routing.enabled", havingValue = "true")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaRoutingProperties routing,
+                                                             ReadYourWrites readYourWrites,
+                                                             Environment environment,
+                                                             ObjectProvider<DataSourceGate> gate,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primaryPool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primaryPool));
+        if (primaryPool.getPoolName() == null) {
+            primaryPool.setPoolName("primary");
+        }
+
+        List<HikariDataSource> replicaPools = new ArrayList<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            ReplicaRoutingProperties.Replica replica = routing.getReplicas().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+            pool.setMaximumPoolSize(routing.getReplicaPoolSize());
+            pool.setConnectionTimeout(routing.getReplicaTimeout().toMillis());
+            pool.setValidationTimeout(routing.getReplicaTimeout().toMillis());
+            pool.setReadOnly(true);
+            // A replica that is down at startup must not stop the application
+            pool.setInitializationFailTimeout(-1);
+            replicaPools.add(pool);
+        }
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            primaryPool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replicaPools.forEach(pool -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        }
+
+        DataSourceGate primaryGate = gate.getIfAvailable();
+        DataSource primary = primaryGate != null ? new GatedDataSource(primaryPool, primaryGate) : primaryPool;
+        return new ReplicaRoutingDataSource(primary, replicaPools, readYourWrites, routing.getHealthCheckInterval());
+    }
+
+    /**
+     * The application DataSource: connections are fetched at the first statement, after the transaction's
+     * read-only flag is known (defaults are set so startup does not need a connection to detect them)
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "echoboard.datasource.routing.enabled", havingValue = "true")
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource, ObjectProvider<SlowQueryLog> slowQueryLog) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(replicaRoutingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return withSlowQueryLog(proxy, slowQueryLog);
+    }
+}
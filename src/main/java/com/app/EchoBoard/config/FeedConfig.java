@@ -0,0 +1,16 @@
+package com.app.echoboard.config;
+
+import com.app.echoboard.feed.FeedProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Activity feed configuration (echoboard.feed.*)
+ * Enables scheduling for the outbox dispatcher
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(FeedProperties.class)
+public class FeedConfig {
+}
@@ -0,0 +1,107 @@
+package com.app.echoboard.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint with a snapshot of Hibernate statistics and connection pool waits
+ * GET /actuator/hibernate (the same counters are exported as meters for Prometheus)
+ */
+@Component
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", stats.isStatisticsEnabled());
+        result.put("since", stats.getStart());
+
+        Map<String, Object> statements = new LinkedHashMap<>();
+        statements.put("prepared", stats.getPrepareStatementCount());
+        statements.put("closed", stats.getCloseStatementCount());
+        statements.put("queriesExecuted", stats.getQueryExecutionCount());
+        statements.put("slowestQueryMillis", stats.getQueryExecutionMaxTime());
+        statements.put("slowestQuery", stats.getQueryExecutionMaxTimeQueryString());
+        result.put("statements", statements);
+
+        Map<String, Object> entities = new LinkedHashMap<>();
+        entities.put("loaded", stats.getEntityLoadCount());
+        entities.put("fetched", stats.getEntityFetchCount());
+        entities.put("inserted", stats.getEntityInsertCount());
+        entities.put("updated", stats.getEntityUpdateCount());
+        entities.put("deleted", stats.getEntityDeleteCount());
+        result.put("entities", entities);
+
+        Map<String, Object> collections = new LinkedHashMap<>();
+        collections.put("loaded", stats.getCollectionLoadCount());
+        collections.put("fetched", stats.getCollectionFetchCount());
+        result.put("collections", collections);
+
+        Map<String, Object> sessions = new LinkedHashMap<>();
+        sessions.put("opened", stats.getSessionOpenCount());
+        sessions.put("flushes", stats.getFlushCount());
+        sessions.put("transactions", stats.getTransactionCount());
+        sessions.put("optimisticFailures", stats.getOptimisticFailureCount());
+        result.put("sessions", sessions);
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : stats.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = stats.getCacheRegionStatistics(region);
+            if (regionStats != null) {
+                regions.put(region, cacheCounts(regionStats.getHitCount(), regionStats.getMissCount(), regionStats.getPutCount()));
+            }
+        }
+        result.put("secondLevelCache", regions);
+        result.put("queryCache", cacheCounts(stats.getQueryCacheHitCount(),
+            stats.getQueryCacheMissCount(), stats.getQueryCachePutCount()));
+
+        result.put("connectionPool", connectionPool());
+        return result;
+    }
+
+    // Wait time to borrow a connection, from the pool's own meters
+    private Map<String, Object> connectionPool() {
+        Map<String, Object> pool = new LinkedHashMap<>();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        if (acquire != null) {
+            pool.put("acquireCount", acquire.count());
+            pool.put("acquireMeanMillis", acquire.mean(TimeUnit.MILLISECONDS));
+            pool.put("acquireMaxMillis", acquire.max(TimeUnit.MILLISECONDS));
+        }
+        Gauge pending = meterRegistry.find("hikaricp.connections.pending").gauge();
+        if (pending != null) {
+            pool.put("pendingThreads", (long) pending.value());
+        }
+        return pool;
+    }
+
+    private static Map<String, Object> cacheCounts(long hits, long misses, long puts) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("hits", hits);
+        counts.put("misses", misses);
+        counts.put("puts", puts);
+        counts.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return counts;
+    }
+}
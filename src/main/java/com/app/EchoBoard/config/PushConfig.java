@@ -0,0 +1,22 @@
+package com.app.echoboard.config;
+
+import com.app.echoboard.push.BoardPushHub;
+import com.app.echoboard.push.PushProperties;
+import com.app.echoboard.service.PermissionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Board push configuration (echoboard.push.*)
+ */
+@Configuration
+@EnableConfigurationProperties(PushProperties.class)
+public class PushConfig {
+
+    @Bean(destroyMethod = "close")
+    public BoardPushHub boardPushHub(PushProperties properties, ObjectMapper objectMapper, PermissionService permissionService) {
+        return new BoardPushHub(properties, objectMapper, permissionService::isActiveMember);
+    }
+}
@@ -0,0 +1,40 @@
+package com.app.echoboard.config;
+
+import com.app.echoboard.reactive.ReactiveDataProperties;
+import com.app.echoboard.reactive.ReactiveDatabase;
+import com.app.echoboard.reactive.ReactiveReadRepository;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * R2DBC configuration for the non-blocking read API (/api/reactive/**)
+ * Reads the same database as the JPA stack through its own pool (echoboard.r2dbc.*); Boot's R2DBC
+ * auto-configuration is excluded on the application class so the JDBC DataSource stays in place
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveDataProperties.class)
+public class ReactiveDataConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReactiveDatabase reactiveDatabase(ReactiveDataProperties properties, DataSourceProperties dataSourceProperties) {
+        String url = properties.getUrl();
+        if (!StringUtils.hasText(url)) {
+            url = ReactiveDatabase.r2dbcUrl(dataSourceProperties.determineUrl());
+            if (url == null) {
+                throw new IllegalStateException("No R2DBC equivalent for " + dataSourceProperties.determineUrl()
+                    + ", set echoboard.r2dbc.url");
+            }
+        }
+        String username = properties.getUsername() != null ? properties.getUsername() : dataSourceProperties.determineUsername();
+        String password = properties.getPassword() != null ? properties.getPassword() : dataSourceProperties.determinePassword();
+        return new ReactiveDatabase(properties, url, username, password);
+    }
+
+    @Bean
+    public ReactiveReadRepository reactiveReadRepository(ReactiveDatabase reactiveDatabase) {
+        return new ReactiveReadRepository(reactiveDatabase.client());
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.echoboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache settings
+ * Every region uses the defaults unless overridden under echoboard.cache.regions.{region}
+ */
+@ConfigurationProperties(prefix = "echoboard.cache")
+public class SecondLevelCacheProperties {
+
+    // Time to live after write (zero or negative: never expire)
+    private Duration defaultTtl = Duration.ofMinutes(10);
+
+    // Maximum number of entries per region
+    private long defaultMaxSize = 10_000;
+
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Duration getDefaultTtl() { return defaultTtl; }
+    public void setDefaultTtl(Duration defaultTtl) { this.defaultTtl = defaultTtl; }
+
+    public long getDefaultMaxSize() { return defaultMaxSize; }
+    public void setDefaultMaxSize(long defaultMaxSize) { this.defaultMaxSize = defaultMaxSize; }
+
+    public Map<String, Region> getRegions() { return regions; }
+    public void setRegions(Map<String, Region> regions) { this.regions = regions; }
+
+    public Duration ttlFor(String region) {
+        Region override = regions.get(region);
+        return override != null && override.getTtl() != null ? override.getTtl() : defaultTtl;
+    }
+
+    public long maxSizeFor(String region) {
+        Region override = regions.get(region);
+        return override != null && override.getMaxSize() != null ? override.getMaxSize() : defaultMaxSize;
+    }
+
+    /**
+     * Per-region override
+     */
+    public static class Region {
+        private Duration ttl;
+        private Long maxSize;
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+        public Long getMaxSize() { return maxSize; }
+        public void setMaxSize(Long maxSize) { this.maxSize = maxSize; }
+    }
+}
@@ -0,0 +1,55 @@
+package com.app.echoboard.config;
+
+import com.app.echoboard.monitoring.SlowQueryLog;
+import com.app.echoboard.monitoring.SlowQueryProperties;
+import com.app.echoboard.monitoring.SqlBudgetProperties;
+import com.app.echoboard.monitoring.SqlCallSite;
+import com.app.echoboard.monitoring.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * SQL monitoring configuration
+ * Hooks the per-request statement counter into Hibernate and sets up the slow-query log
+ * (the DataSource itself is wrapped in DataSourceConfig)
+ */
+@Configuration
+@EnableConfigurationProperties({SqlBudgetProperties.class, SlowQueryProperties.class})
+public class SqlMonitoringConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "echoboard.sql.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties);
+    }
+
+    /**
+     * Record the repository method being invoked so slow statements can name their caller
+     */
+    @Bean
+    @ConditionalOnProperty(name = "echoboard.sql.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor sqlCallSitePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            SqlCallSite.repositoryInterceptor(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
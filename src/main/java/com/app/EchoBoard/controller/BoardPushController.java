@@ -0,0 +1,44 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.push.BoardPushHub;
+import com.app.echoboard.service.PermissionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Board Push Controller - real-time project board changes over Server-Sent Events
+ * Replaces polling: one long-lived connection per open board
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/board")
+@CrossOrigin(origins = "*") // Allow cross-origin access
+public class BoardPushController {
+
+    @Autowired
+    private BoardPushHub boardPushHub;
+
+    @Autowired
+    private PermissionService permissionService;
+
+    /**
+     * Subscribe to a project's board changes (active members only)
+     * GET /api/projects/{projectId}/board/events?userId={userId}
+     * Events: subscribed, delta (coalesced changes, consecutive sequence numbers), resync (the connection fell
+     * behind and messages were dropped: refetch the board), revoked (membership ended, stream closes)
+     * Limitation: userId is supplied by the client and not authenticated, so any caller who knows a member's ID
+     * can subscribe as that member. Take the user from the authenticated principal once authentication exists
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable Long projectId, @RequestParam Long userId) {
+        if (!permissionService.isActiveMember(projectId, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no") // Reverse proxies must not buffer the stream
+            .body(boardPushHub.subscribe(projectId, userId));
+    }
+}
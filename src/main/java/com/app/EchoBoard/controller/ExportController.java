@@ -0,0 +1,54 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+/**
+ * Export Controller - bulk data export API
+ * Streams rows as newline-delimited JSON (chunked, one object per line)
+ */
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*") // Allow cross-origin access
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    /**
+     * Export all users
+     * GET /api/export/users
+     */
+    @GetMapping(value = "/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = exportService::exportUsers;
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * Export project members, optionally by join time range
+     * GET /api/export/project-members?from={from}&to={to}
+     */
+    @GetMapping(value = "/project-members", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProjectMembers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if ((from == null) != (to == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> exportService.exportProjectMembers(from, to, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+}
@@ -0,0 +1,53 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.dto.CursorPage;
+import com.app.echoboard.dto.FeedCursor;
+import com.app.echoboard.dto.FeedItem;
+import com.app.echoboard.service.ActivityFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Feed Controller - per-user activity feed API
+ * Served from the precomputed feed entries, newest first
+ */
+@RestController
+@RequestMapping("/api/users/{userId}/feed")
+@CrossOrigin(origins = "*") // Allow cross-origin access
+public class FeedController {
+
+    // Upper bound for a single keyset page
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ActivityFeedService activityFeedService;
+
+    /**
+     * Get a page of a user's activity feed (keyset paginated, newest first)
+     * GET /api/users/{userId}/feed?cursor={next}&size={size}
+     */
+    @GetMapping
+    public ResponseEntity<?> getFeed(@PathVariable Long userId,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(defaultValue = "20") int size) {
+        FeedCursor before;
+        try {
+            before = FeedCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new UserController.ApiResponse(false, "Invalid cursor!"));
+        }
+
+        // Fetch one extra row to know whether a next page exists
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<FeedItem> rows = activityFeedService.feed(userId, before, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<FeedItem> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String next = hasMore ? FeedCursor.of(items.get(items.size() - 1)).encode() : null;
+
+        return ResponseEntity.ok(new CursorPage<>(items, next));
+    }
+}
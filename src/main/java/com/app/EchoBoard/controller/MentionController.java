@@ -0,0 +1,41 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.dto.MentionSuggestion;
+import com.app.echoboard.service.MentionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Mention Controller - @-mention typeahead API
+ * Served from the in-memory mention index, one request per keystroke
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/mentions")
+@CrossOrigin(origins = "*") // Allow cross-origin access
+public class MentionController {
+
+    private static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private MentionService mentionService;
+
+    /**
+     * Suggest project members for a typed prefix
+     * GET /api/projects/{projectId}/mentions?q={prefix}&limit={limit}
+     */
+    @GetMapping
+    public ResponseEntity<?> suggest(@PathVariable Long projectId,
+                                     @RequestParam(defaultValue = "") String q,
+                                     @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest()
+                .body(new UserController.ApiResponse(false, "Limit must be between 1 and " + MAX_LIMIT + "!"));
+        }
+
+        List<MentionSuggestion> suggestions = mentionService.suggest(projectId, q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+}
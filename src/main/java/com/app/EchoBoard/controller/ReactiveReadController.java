@@ -0,0 +1,83 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.dto.ProjectMemberSummary;
+import com.app.echoboard.dto.UserSummary;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.reactive.ReactiveReadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Read Controller - non-blocking read API over R2DBC
+ * No request thread is held while a query runs. Lists are streamed as NDJSON (one JSON object per line):
+ * rows are requested from the database as the client consumes the response, so a slow reader slows the query
+ * down instead of piling rows up in memory
+ */
+@RestController
+@RequestMapping("/api/reactive")
+@CrossOrigin(origins = "*") // Allow cross-origin access
+public class ReactiveReadController {
+
+    // Upper bound for a single streamed page
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Autowired
+    private ReactiveReadRepository reactiveReadRepository;
+
+    /**
+     * Get user by ID
+     * GET /api/reactive/users/{id}
+     */
+    @GetMapping("/users/{id}")
+    public Mono<ResponseEntity<UserSummary>> getUserById(@PathVariable Long id) {
+        return reactiveReadRepository.findUserById(id)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get user by email
+     * GET /api/reactive/users/email/{email}
+     */
+    @GetMapping("/users/email/{email}")
+    public Mono<ResponseEntity<UserSummary>> getUserByEmail(@PathVariable String email) {
+        return reactiveReadRepository.findUserByEmail(email)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Stream users by role, ordered by ID
+     * GET /api/reactive/users/role/{role}?after={lastId}&size={size}
+     * The next page starts after the last ID received
+     */
+    @GetMapping(value = "/users/role/{role}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserSummary> getUsersByRole(@PathVariable Role role,
+                                            @RequestParam(defaultValue = "0") long after,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return reactiveReadRepository.findUsersByRole(role, after, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * Stream the active members of a project as users
+     * GET /api/reactive/projects/{projectId}/users
+     */
+    @GetMapping(value = "/projects/{projectId}/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserSummary> getActiveProjectUsers(@PathVariable Long projectId) {
+        return reactiveReadRepository.findActiveUsersByProjectId(projectId);
+    }
+
+    /**
+     * Stream the most recently joined members of a project
+     * GET /api/reactive/projects/{projectId}/members/recent?size={size}
+     */
+    @GetMapping(value = "/projects/{projectId}/members/recent", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjectMemberSummary> getRecentProjectMembers(@PathVariable Long projectId,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return reactiveReadRepository.findRecentProjectMembers(projectId, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+}
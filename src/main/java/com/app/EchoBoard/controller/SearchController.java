@@ -0,0 +1,67 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.search.SearchIndex;
+import com.app.echoboard.search.SearchResults;
+import com.app.echoboard.search.SearchType;
+import com.app.echoboard.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Search Controller - ranked search API
+ * Backed by the search index instead of LIKE '%q%' table scans
+ */
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*") // Allow cross-origin access
+public class SearchController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Deepest result reachable by paging; ranking keeps page * size results in memory
+    private static final int MAX_RESULT_WINDOW = 1000;
+
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    @Autowired
+    private SearchService searchService;
+
+    /**
+     * Search projects by name and description
+     * GET /api/search/projects?q={q}&page={page}&size={size}
+     */
+    @GetMapping("/projects")
+    public ResponseEntity<?> searchProjects(@RequestParam String q,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "20") int size) {
+        return search(SearchType.PROJECT, q, page, size);
+    }
+
+    /**
+     * Search active users by name
+     * GET /api/search/users?q={q}&page={page}&size={size}
+     */
+    @GetMapping("/users")
+    public ResponseEntity<?> searchUsers(@RequestParam String q,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "20") int size) {
+        return search(SearchType.USER, q, page, size);
+    }
+
+    private ResponseEntity<?> search(SearchType type, String q, int page, int size) {
+        String query = q.trim();
+        if (query.length() < SearchIndex.MIN_QUERY_LENGTH || query.length() > MAX_QUERY_LENGTH) {
+            return ResponseEntity.badRequest()
+                .body(new UserController.ApiResponse(false,
+                    "Query must be " + SearchIndex.MIN_QUERY_LENGTH + "-" + MAX_QUERY_LENGTH + " characters!"));
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE || ((long) page + 1) * size > MAX_RESULT_WINDOW) {
+            return ResponseEntity.badRequest()
+                .body(new UserController.ApiResponse(false, "Invalid page!"));
+        }
+
+        SearchResults results = searchService.search(type, query, page, size);
+        return ResponseEntity.ok(results);
+    }
+}
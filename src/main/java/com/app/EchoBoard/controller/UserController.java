@@ -1,15 +1,30 @@
 package com.app.echoboard.controller;
 
+import com.app.echoboard.dto.CursorPage;
+import com.app.echoboard.dto.RegistrationResult;
+import com.app.echoboard.dto.UserSummary;
+import com.app.echoboard.dto.UserVersion;
 import com.app.echoboard.model.Role;
 import com.app.echoboard.model.User;
 import com.app.echoboard.repository.UserRepository;
+import com.app.echoboard.service.EmailIndexService;
+import com.app.echoboard.service.UserRegistrationService;
+import com.app.echoboard.service.UserResponseCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 /**
  * User Controller - User management API
@@ -20,36 +35,94 @@ import java.util.Optional;
 @CrossOrigin(origins = "*") // Allow cross-origin access
 public class UserController {
 
+    // Upper bound for a single keyset page
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserRegistrationService userRegistrationService;
+
+    @Autowired
+    private EmailIndexService emailIndexService;
+
+    @Autowired
+    private UserResponseCache userResponseCache;
+
     /**
      * User registration
      * POST /api/users/register
      */
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@Valid @RequestBody UserRegistrationRequest request) {
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
+        // Check if email already exists (Bloom filter first, database only on a possible hit)
+        if (emailIndexService.isRegistered(request.getEmail())) {
             return ResponseEntity.badRequest()
                 .body(new ApiResponse(false, "Email already exists!"));
         }
 
         // Create new user
         User user = new User(request.getEmail(), request.getName(), request.getRole());
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Unique constraint on users.email is the final authority
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, "Email already exists!"));
+        }
+        emailIndexService.registered(savedUser.getEmail());
 
-        return ResponseEntity.ok(new ApiResponse(true, "User registered successfully!", savedUser));
+        return ResponseEntity.ok(new ApiResponse(true, "User registered successfully!", UserSummary.from(savedUser)));
     }
 
     /**
-     * Get all users
-     * GET /api/users
+     * Batch user registration
+     * POST /api/users/register/batch
+     */
+    @PostMapping("/register/batch")
+    public ResponseEntity<?> registerUsers(@RequestBody List<UserRegistrationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, "No users to register!"));
+        }
+        if (requests.size() > UserRegistrationService.MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, "Too many users in one batch (max " + UserRegistrationService.MAX_BATCH_SIZE + ")!"));
+        }
+
+        List<User> candidates = requests.stream()
+            .map(r -> r == null ? new User() : new User(r.getEmail(), r.getName(), r.getRole()))
+            .toList();
+
+        List<RegistrationResult> results;
+        try {
+            results = userRegistrationService.registerAll(candidates);
+        } catch (DataIntegrityViolationException e) {
+            // Another request registered one of these emails after our duplicate check
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse(false, "Some emails were registered concurrently, please retry!"));
+        }
+
+        results.stream()
+            .filter(r -> r.status() == RegistrationResult.Status.CREATED)
+            .forEach(r -> emailIndexService.registered(r.email()));
+        long created = results.stream()
+            .filter(r -> r.status() == RegistrationResult.Status.CREATED)
+            .count();
+        return ResponseEntity.ok(new ApiResponse(true, created + " of " + results.size() + " users registered!", results));
+    }
+
+    /**
+     * Get all users (keyset paginated)
+     * GET /api/users?cursor={next}&size={size}
      */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "50") int size) {
+        return keysetPage(cursor, size,
+            (afterId, limit) -> userRepository.findByIdGreaterThanOrderByIdAsc(afterId, limit, UserSummary.class));
     }
 
     /**
@@ -57,13 +130,8 @@ public class UserController {
      * GET /api/users/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getUserById(@PathVariable Long id) {
-        Optional<User> user = userRepository.findById(id);
-        if (user.isPresent()) {
-            return ResponseEntity.ok(user.get());
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+    public ResponseEntity<?> getUserById(@PathVariable Long id, ServletWebRequest request) {
+        return conditionalUser(userRepository.findVersionById(id), request);
     }
 
     /**
@@ -71,33 +139,81 @@ public class UserController {
      * GET /api/users/email/{email}
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<?> getUserByEmail(@PathVariable String email) {
-        Optional<User> user = userRepository.findByEmail(email);
-        if (user.isPresent()) {
-            return ResponseEntity.ok(user.get());
-        } else {
+    public ResponseEntity<?> getUserByEmail(@PathVariable String email, ServletWebRequest request) {
+        return conditionalUser(userRepository.findVersionByEmail(email), request);
+    }
+
+    /**
+     * Conditional GET of a single user
+     * The ETag comes from a version-only query; a matching If-None-Match gets 304 without loading the entity,
+     * otherwise the body is served from the serialized-response cache
+     */
+    private ResponseEntity<?> conditionalUser(Optional<UserVersion> version, ServletWebRequest request) {
+        if (version.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        // Clients may keep the response but must revalidate it
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (request.checkNotModified(version.get().etag())) {
+            // 304 and ETag are already set on the response
+            return null;
+        }
+        // checkNotModified has also written the ETag header for the 200 response
+        return userResponseCache.json(version.get())
+            .<ResponseEntity<?>>map(served -> {
+                if (!served.version().equals(version.get())) {
+                    // The user changed after the version query: tag the body with the state actually served
+                    request.getResponse().setHeader(HttpHeaders.ETAG, served.version().etag());
+                }
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(served.json());
+            })
+            .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
-     * Get user list by role
-     * GET /api/users/role/{role}
+     * Get user list by role (keyset paginated)
+     * GET /api/users/role/{role}?cursor={next}&size={size}
      */
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<User>> getUsersByRole(@PathVariable Role role) {
-        List<User> users = userRepository.findByRole(role);
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getUsersByRole(@PathVariable Role role,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return keysetPage(cursor, size,
+            (afterId, limit) -> userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(role, afterId, limit, UserSummary.class));
     }
 
     /**
-     * Get active user list
-     * GET /api/users/active
+     * Get active user list (keyset paginated)
+     * GET /api/users/active?cursor={next}&size={size}
      */
     @GetMapping("/active")
-    public ResponseEntity<List<User>> getActiveUsers() {
-        List<User> users = userRepository.findByIsActiveTrue();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getActiveUsers(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return keysetPage(cursor, size,
+            (afterId, limit) -> userRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(afterId, limit, UserSummary.class));
+    }
+
+    /**
+     * Run one keyset page query
+     * Fetches one extra row to know whether a next page exists
+     */
+    private ResponseEntity<?> keysetPage(String cursor, int size,
+                                         BiFunction<Long, Limit, List<UserSummary>> query) {
+        long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, "Invalid cursor!"));
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<UserSummary> rows = query.apply(afterId, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<UserSummary> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String next = hasMore ? CursorPage.encodeCursor(items.get(items.size() - 1).id()) : null;
+
+        return ResponseEntity.ok(new CursorPage<>(items, next));
     }
 
     // DTO class: user registration request
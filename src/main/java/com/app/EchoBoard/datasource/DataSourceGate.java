@@ -0,0 +1,85 @@
+package com.app.echoboard.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fair semaphore in front of the connection pool
+ * With virtual threads the number of concurrent requests is effectively unbounded; the gate caps how
+ * many of them work the database at once and queues the rest in FIFO order (parking a virtual thread
+ * is cheap), failing with SQLTransientConnectionException after the acquire timeout
+ */
+public class DataSourceGate implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+
+    private Timer waitTimer;
+    private Counter rejected;
+
+    public DataSourceGate(int maxConcurrency, Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database permit", e);
+        }
+        if (waitTimer != null) {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new SQLTransientConnectionException(
+                "No database permit available within " + acquireTimeout.toMillis() + " ms (" + maxConcurrency + " in use)");
+        }
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    public int inUse() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("echoboard.datasource.gate.active", this, DataSourceGate::inUse)
+            .description("Connections currently borrowed through the gate")
+            .register(registry);
+        Gauge.builder("echoboard.datasource.gate.waiting", this, DataSourceGate::waiting)
+            .description("Threads waiting for a database permit")
+            .register(registry);
+        waitTimer = Timer.builder("echoboard.datasource.gate.wait")
+            .description("Time spent waiting for a database permit")
+            .publishPercentileHistogram()
+            .register(registry);
+        rejected = Counter.builder("echoboard.datasource.gate.rejected")
+            .description("Connection requests that timed out waiting for a permit")
+            .register(registry);
+    }
+}
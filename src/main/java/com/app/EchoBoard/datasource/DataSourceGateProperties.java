@@ -0,0 +1,30 @@
+package com.app.echoboard.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Database concurrency gate settings
+ */
+@ConfigurationProperties(prefix = "echoboard.datasource.gate")
+public class DataSourceGateProperties {
+
+    // Wrap the DataSource in the gate at all
+    private boolean enabled = true;
+
+    // Connections that may be borrowed at once; keep at or below the pool size so waiters queue here
+    private int maxConcurrency = 10;
+
+    // How long a caller waits for a permit before failing
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+
+    public Duration getAcquireTimeout() { return acquireTimeout; }
+    public void setAcquireTimeout(Duration acquireTimeout) { this.acquireTimeout = acquireTimeout; }
+}
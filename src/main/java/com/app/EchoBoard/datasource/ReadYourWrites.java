@@ -0,0 +1,51 @@
+package com.app.echoboard.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Remembers which clients wrote recently so their reads can skip possibly stale replicas
+ * The client of the current thread is bound by ReadYourWritesFilter; work without a client
+ * (startup, scheduled jobs) is never pinned to the primary
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(100_000)
+            .build();
+    }
+
+    public static void bind(String client) {
+        CLIENT.set(client);
+    }
+
+    public static void clear() {
+        CLIENT.remove();
+    }
+
+    /**
+     * Record a committed write by the current client
+     */
+    public void recordWrite() {
+        String client = CLIENT.get();
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Whether the current client wrote within the window
+     */
+    public boolean mustReadPrimary() {
+        String client = CLIENT.get();
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+}
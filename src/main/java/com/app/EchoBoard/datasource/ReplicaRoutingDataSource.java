@@ -0,0 +1,220 @@
+package com.app.echoboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to healthy replicas (round robin) and everything else to the primary
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only known once
+ * the transaction has begun, so the physical connection has to be fetched at the first statement.
+ * Reads stay on the primary when no replica is healthy or the current client wrote within the
+ * read-your-writes window; a replica that fails to hand out a connection is marked down and the read
+ * falls back to the primary
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final Duration healthCheckInterval;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecks;
+
+    private Counter primaryReads;
+    private Counter replicaReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                                    ReadYourWrites readYourWrites, Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.readYourWrites = readYourWrites;
+        this.healthCheckInterval = healthCheckInterval;
+        this.healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name(), replica.pool));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+        long interval = healthCheckInterval.toMillis();
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (readYourWrites.mustReadPrimary()) {
+            return PRIMARY;
+        }
+        Replica replica = nextHealthyReplica();
+        return replica != null ? replica.name() : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                rememberWrite();
+            } else if (primaryReads != null) {
+                primaryReads.increment();
+            }
+            return primary.getConnection();
+        }
+        Replica replica = replicas.stream().filter(r -> r.name().equals(key)).findFirst().orElseThrow();
+        try {
+            Connection connection = replica.pool.getConnection();
+            if (replicaReads != null) {
+                replicaReads.increment();
+            }
+            return connection;
+        } catch (SQLException e) {
+            markDown(replica, e);
+            if (primaryReads != null) {
+                primaryReads.increment();
+            }
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Per-user credentials are not used by the application; always go to the primary
+        return primary.getConnection(username, password);
+    }
+
+    public int healthyReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    /**
+     * Probe every replica with a short validation query
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!connection.isValid((int) Math.max(1, replica.pool.getValidationTimeout() / 1000))) {
+                    throw new SQLException("Connection is not valid");
+                }
+                if (!replica.healthy) {
+                    log.info("Replica {} is healthy, routing reads to it", replica.name());
+                }
+                replica.healthy = true;
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void markDown(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            log.warn("Replica {} is unavailable, reads fall back to the primary: {}", replica.name(), cause.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    /**
+     * A read-write transaction pins the client's reads to the primary once it commits
+     * (statements outside a transaction go to the primary but do not count as writes)
+     */
+    private void rememberWrite() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.recordWrite();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("echoboard.datasource.replicas.healthy", this, ReplicaRoutingDataSource::healthyReplicas)
+            .description("Replicas currently receiving reads")
+            .register(registry);
+        primaryReads = Counter.builder("echoboard.datasource.routing.reads")
+            .description("Read-only connections by routing target")
+            .tag("target", "primary")
+            .register(registry);
+        replicaReads = Counter.builder("echoboard.datasource.routing.reads")
+            .description("Read-only connections by routing target")
+            .tag("target", "replica")
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        healthChecks.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+        try {
+            if (primary.isWrapperFor(HikariDataSource.class)) {
+                primary.unwrap(HikariDataSource.class).close();
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to close the primary pool", e);
+        }
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private volatile boolean healthy;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        private String name() {
+            return pool.getPoolName();
+        }
+    }
+}
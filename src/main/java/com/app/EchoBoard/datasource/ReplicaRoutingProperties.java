@@ -0,0 +1,68 @@
+package com.app.echoboard.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting settings
+ * The primary is configured through spring.datasource.*; read-only transactions go to the replicas listed here
+ */
+@ConfigurationProperties(prefix = "echoboard.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Pool size of each replica
+    private int replicaPoolSize = 10;
+
+    // How often replicas are probed; an unhealthy replica is skipped until a probe succeeds again
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // Connection and probe timeout for replicas (reads fall back to the primary instead of waiting)
+    private Duration replicaTimeout = Duration.ofSeconds(2);
+
+    // After a client's own write its reads stay on the primary for this long (covers replication lag)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public List<Replica> getReplicas() { return replicas; }
+    public void setReplicas(List<Replica> replicas) { this.replicas = replicas; }
+
+    public int getReplicaPoolSize() { return replicaPoolSize; }
+    public void setReplicaPoolSize(int replicaPoolSize) { this.replicaPoolSize = replicaPoolSize; }
+
+    public Duration getHealthCheckInterval() { return healthCheckInterval; }
+    public void setHealthCheckInterval(Duration healthCheckInterval) { this.healthCheckInterval = healthCheckInterval; }
+
+    public Duration getReplicaTimeout() { return replicaTimeout; }
+    public void setReplicaTimeout(Duration replicaTimeout) { this.replicaTimeout = replicaTimeout; }
+
+    public Duration getReadYourWritesWindow() { return readYourWritesWindow; }
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) { this.readYourWritesWindow = readYourWritesWindow; }
+
+    /**
+     * One read replica (credentials default to the primary's)
+     */
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+    }
+}
@@ -0,0 +1,26 @@
+package com.app.echoboard.dto;
+
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+
+import java.util.List;
+
+/**
+ * Board change message pushed to project subscribers
+ * Merges every change made to one project within the coalescing window: the latest project state
+ * (null if unchanged) and the latest state of each changed member. Sequence numbers are consecutive
+ * per topic, so a client that sees a gap knows it missed a delta and must refetch
+ */
+public record BoardDelta(
+        Long projectId,
+        long sequence,
+        ProjectState project,
+        List<MemberState> members) {
+
+    public record ProjectState(String name, Project.ProjectStatus status, boolean removed) {
+    }
+
+    public record MemberState(Long userId, Role projectRole, ProjectMember.MemberStatus status, boolean removed) {
+    }
+}
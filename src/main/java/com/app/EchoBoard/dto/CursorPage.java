@@ -0,0 +1,46 @@
+package com.app.echoboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Keyset (cursor) page
+ * Holds one page of items plus an opaque cursor pointing past the last item
+ * The cursor is null when there are no more pages
+ */
+public record CursorPage<T>(List<T> items, String next) {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    /**
+     * Encode the last ID of a page into an opaque cursor
+     * @param lastId ID of the last item on the page
+     * @return URL-safe cursor string
+     */
+    public static String encodeCursor(long lastId) {
+        byte[] raw = (CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * Decode a cursor back into the last seen ID
+     * @param cursor cursor from a previous page (null or blank for the first page)
+     * @return last seen ID, 0 for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!raw.startsWith(CURSOR_PREFIX)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        long lastId = Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        if (lastId < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return lastId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.echoboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Position in a user's feed: the (occurredAt, id) key of an entry
+ * Feeds are ordered by occurrence time; the ID only breaks ties, since IDs handed out by
+ * concurrent dispatchers follow insert order rather than event time
+ */
+public record FeedCursor(LocalDateTime occurredAt, long id) {
+
+    private static final String CURSOR_PREFIX = "feed:";
+
+    public FeedCursor {
+        // Column keeps microseconds
+        occurredAt = occurredAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public static FeedCursor of(FeedItem item) {
+        return new FeedCursor(item.occurredAt(), item.id());
+    }
+
+    /**
+     * URL-safe opaque cursor string
+     */
+    public String encode() {
+        long micros = occurredAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + occurredAt.getNano() / 1_000;
+        byte[] raw = (CURSOR_PREFIX + micros + ":" + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * Decode a cursor from a previous page
+     * @param cursor cursor string (null or blank for the first page)
+     * @return position to continue after, null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.startsWith(CURSOR_PREFIX) ? raw.substring(CURSOR_PREFIX.length()).split(":") : new String[0];
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        long micros = Long.parseLong(parts[0]);
+        long id = Long.parseLong(parts[1]);
+        LocalDateTime occurredAt = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+            (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+        return new FeedCursor(occurredAt, id);
+    }
+}
@@ -0,0 +1,19 @@
+package com.app.echoboard.dto;
+
+import com.app.echoboard.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Activity feed read model (projection of UserFeedEntry)
+ */
+public record FeedItem(
+        Long id,
+        OutboxEvent.Type type,
+        Long projectId,
+        String projectName,
+        Long subjectUserId,
+        String subjectUserName,
+        String detail,
+        LocalDateTime occurredAt) {
+}
@@ -0,0 +1,9 @@
+package com.app.echoboard.dto;
+
+import com.app.echoboard.model.Role;
+
+/**
+ * Minimal active membership row (project, user, role), used to build in-memory indexes
+ */
+public record MembershipKey(Long projectId, Long userId, Role projectRole) {
+}
@@ -0,0 +1,11 @@
+package com.app.echoboard.dto;
+
+/**
+ * Active member of a project with the names it can be @-mentioned by, used to build the mention index
+ */
+public record MentionCandidate(Long projectId, Long userId, String name, String oauthUsername) {
+
+    public MentionSuggestion suggestion() {
+        return new MentionSuggestion(userId, name, oauthUsername);
+    }
+}
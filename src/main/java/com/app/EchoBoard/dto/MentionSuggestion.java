@@ -0,0 +1,7 @@
+package com.app.echoboard.dto;
+
+/**
+ * One @-mention typeahead result
+ */
+public record MentionSuggestion(Long userId, String name, String oauthUsername) {
+}
@@ -0,0 +1,22 @@
+package com.app.echoboard.dto;
+
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * One line of the project member NDJSON export
+ * Selected directly by a constructor expression, so no entity (or proxy) enters the persistence context
+ */
+public record ProjectMemberExportRow(
+        Long id,
+        Long projectId,
+        Long userId,
+        Role projectRole,
+        ProjectMember.MemberStatus status,
+        ProjectMember.JoinMethod joinMethod,
+        Long invitedById,
+        LocalDateTime joinedAt,
+        LocalDateTime leftAt) {
+}
@@ -0,0 +1,19 @@
+package com.app.echoboard.dto;
+
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * Project member read model (membership row plus the member's display name)
+ */
+public record ProjectMemberSummary(
+        Long id,
+        Long projectId,
+        Long userId,
+        String userName,
+        Role projectRole,
+        ProjectMember.JoinMethod joinMethod,
+        LocalDateTime joinedAt) {
+}
@@ -0,0 +1,29 @@
+package com.app.echoboard.dto;
+
+/**
+ * Per-row outcome of a batch user registration
+ * index refers to the position of the row in the request payload
+ */
+public record RegistrationResult(int index, String email, Status status, Long id, String message) {
+
+    public static RegistrationResult created(int index, String email, Long id) {
+        return new RegistrationResult(index, email, Status.CREATED, id, "User registered successfully!");
+    }
+
+    public static RegistrationResult duplicate(int index, String email, String message) {
+        return new RegistrationResult(index, email, Status.DUPLICATE, null, message);
+    }
+
+    public static RegistrationResult invalid(int index, String email, String message) {
+        return new RegistrationResult(index, email, Status.INVALID, null, message);
+    }
+
+    /**
+     * Registration status enum
+     */
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+}
@@ -0,0 +1,37 @@
+package com.app.echoboard.dto;
+
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * One line of the user NDJSON export
+ * Flat copy of the user columns, never touches lazy associations
+ */
+public record UserExportRow(
+        Long id,
+        String email,
+        String name,
+        String avatarUrl,
+        Role role,
+        String oauthProvider,
+        String oauthUsername,
+        Boolean isActive,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static UserExportRow from(User user) {
+        return new UserExportRow(
+            user.getId(),
+            user.getEmail(),
+            user.getName(),
+            user.getAvatarUrl(),
+            user.getRole(),
+            user.getOauthProvider(),
+            user.getOauthUsername(),
+            user.getIsActive(),
+            user.getCreatedAt(),
+            user.getUpdatedAt());
+    }
+}
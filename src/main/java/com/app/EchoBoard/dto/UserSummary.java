@@ -0,0 +1,36 @@
+package com.app.echoboard.dto;
+
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * User read model
+ * Returned by the user read endpoints instead of the User entity,
+ * so serialization never walks into lazy project memberships
+ */
+public record UserSummary(
+        Long id,
+        String email,
+        String name,
+        String avatarUrl,
+        Role role,
+        String oauthProvider,
+        String oauthUsername,
+        Boolean isActive,
+        LocalDateTime createdAt) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(
+            user.getId(),
+            user.getEmail(),
+            user.getName(),
+            user.getAvatarUrl(),
+            user.getRole(),
+            user.getOauthProvider(),
+            user.getOauthUsername(),
+            user.getIsActive(),
+            user.getCreatedAt());
+    }
+}
@@ -0,0 +1,31 @@
+package com.app.echoboard.dto;
+
+import com.app.echoboard.model.User;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Version of a user resource: its ID plus last modification time (creation time if never updated)
+ * Used as the strong ETag of the user endpoints and as the key of serialized responses
+ */
+public record UserVersion(Long id, LocalDateTime updatedAt) {
+
+    public UserVersion {
+        // Columns keep microseconds; in-memory timestamps may carry more
+        updatedAt = updatedAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public static UserVersion of(User user) {
+        return new UserVersion(user.getId(), user.getUpdatedAt() != null ? user.getUpdatedAt() : user.getCreatedAt());
+    }
+
+    /**
+     * Quoted strong entity tag, e.g. "42-5f3a1c2b9d0e8"
+     */
+    public String etag() {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"" + id + "-" + Long.toHexString(micros) + "\"";
+    }
+}
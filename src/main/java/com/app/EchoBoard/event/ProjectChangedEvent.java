@@ -0,0 +1,24 @@
+package com.app.echoboard.event;
+
+import com.app.echoboard.model.Project;
+
+/**
+ * Published whenever a project is created, updated or removed
+ * Carries the searchable state of the project, so consumers can apply it idempotently
+ */
+public record ProjectChangedEvent(
+        Long projectId,
+        String name,
+        String description,
+        Project.ProjectStatus status,
+        boolean removed) {
+
+    public static ProjectChangedEvent of(Project project, boolean removed) {
+        return new ProjectChangedEvent(
+            project.getId(),
+            project.getName(),
+            project.getDescription(),
+            project.getStatus(),
+            removed);
+    }
+}
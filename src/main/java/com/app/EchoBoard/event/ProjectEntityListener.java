@@ -0,0 +1,31 @@
+package com.app.echoboard.event;
+
+import com.app.echoboard.model.Project;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener for Project
+ * Turns persistence callbacks into ProjectChangedEvent application events
+ */
+@Component
+public class ProjectEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(Project project) {
+        eventPublisher.publishEvent(ProjectChangedEvent.of(project, false));
+    }
+
+    @PostRemove
+    public void afterRemove(Project project) {
+        eventPublisher.publishEvent(ProjectChangedEvent.of(project, true));
+    }
+}
@@ -0,0 +1,34 @@
+package com.app.echoboard.event;
+
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+
+/**
+ * Published whenever a project member relationship is created, updated or removed
+ * Carries the full current state, so consumers can apply it idempotently
+ */
+public record ProjectMemberChangedEvent(
+        Long memberId,
+        Long projectId,
+        Long userId,
+        Role projectRole,
+        ProjectMember.MemberStatus status,
+        boolean removed) {
+
+    public static ProjectMemberChangedEvent of(ProjectMember member, boolean removed) {
+        return new ProjectMemberChangedEvent(
+            member.getId(),
+            member.getProject().getId(),
+            member.getUser().getId(),
+            member.getProjectRole(),
+            member.getStatus(),
+            removed);
+    }
+
+    /**
+     * Whether the user is an active member after this change
+     */
+    public boolean isActiveMembership() {
+        return !removed && status == ProjectMember.MemberStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,32 @@
+package com.app.echoboard.event;
+
+import com.app.echoboard.model.ProjectMember;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener for ProjectMember
+ * Turns persistence callbacks into ProjectMemberChangedEvent application events
+ * (consumers use @TransactionalEventListener to act only after commit)
+ */
+@Component
+public class ProjectMemberEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(ProjectMember member) {
+        eventPublisher.publishEvent(ProjectMemberChangedEvent.of(member, false));
+    }
+
+    @PostRemove
+    public void afterRemove(ProjectMember member) {
+        eventPublisher.publishEvent(ProjectMemberChangedEvent.of(member, true));
+    }
+}
@@ -0,0 +1,8 @@
+package com.app.echoboard.event;
+
+/**
+ * Published when every active member of a project is deactivated in one bulk update
+ * (bulk JPQL updates bypass entity listeners, so no per-member events are sent)
+ */
+public record ProjectMembersDeactivatedEvent(Long projectId) {
+}
@@ -0,0 +1,45 @@
+package com.app.echoboard.event;
+
+import com.app.echoboard.model.User;
+
+/**
+ * Published whenever a user is created, updated or removed
+ * Carries the searchable state of the user, so consumers can apply it idempotently
+ */
+public record UserChangedEvent(
+        Long userId,
+        String name,
+        String oauthUsername,
+        boolean active,
+        boolean created,
+        boolean removed) {
+
+    public static UserChangedEvent created(User user) {
+        return of(user, true, false);
+    }
+
+    public static UserChangedEvent updated(User user) {
+        return of(user, false, false);
+    }
+
+    public static UserChangedEvent removed(User user) {
+        return of(user, false, true);
+    }
+
+    private static UserChangedEvent of(User user, boolean created, boolean removed) {
+        return new UserChangedEvent(
+            user.getId(),
+            user.getName(),
+            user.getOauthUsername(),
+            Boolean.TRUE.equals(user.getIsActive()),
+            created,
+            removed);
+    }
+
+    /**
+     * Whether the user should be visible to lookups after this change
+     */
+    public boolean isVisible() {
+        return !removed && active;
+    }
+}
@@ -0,0 +1,35 @@
+package com.app.echoboard.event;
+
+import com.app.echoboard.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener for User
+ * Turns persistence callbacks into UserChangedEvent application events
+ */
+@Component
+public class UserEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void afterCreate(User user) {
+        eventPublisher.publishEvent(UserChangedEvent.created(user));
+    }
+
+    @PostUpdate
+    public void afterUpdate(User user) {
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
+    }
+
+    @PostRemove
+    public void afterRemove(User user) {
+        eventPublisher.publishEvent(UserChangedEvent.removed(user));
+    }
+}
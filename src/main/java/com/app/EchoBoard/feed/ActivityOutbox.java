@@ -0,0 +1,29 @@
+package com.app.echoboard.feed;
+
+import com.app.echoboard.model.OutboxEvent;
+import com.app.echoboard.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes activity into the transactional outbox
+ * Must be called inside the transaction making the change: the event commits or rolls back with it
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class ActivityOutbox {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Record an activity
+     * @param subjectUserId member the activity is about (null for project-level activity)
+     * @param detail new role or status
+     */
+    public void record(OutboxEvent.Type type, Long projectId, Long subjectUserId, Enum<?> detail) {
+        outboxEventRepository.save(new OutboxEvent(type, projectId, subjectUserId, detail != null ? detail.name() : null));
+    }
+}
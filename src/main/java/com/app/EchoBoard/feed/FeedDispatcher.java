@@ -0,0 +1,40 @@
+package com.app.echoboard.feed;
+
+import com.app.echoboard.service.ActivityFeedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background outbox dispatcher
+ * Drains the outbox one batch (one transaction) at a time, then sleeps for echoboard.feed.dispatcher.interval.
+ * Several nodes can run it: each batch locks its rows and skips rows locked by others
+ */
+@Component
+@ConditionalOnProperty(name = "echoboard.feed.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class FeedDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedDispatcher.class);
+
+    @Autowired
+    private ActivityFeedService activityFeedService;
+
+    @Autowired
+    private FeedProperties properties;
+
+    @Scheduled(fixedDelayString = "${echoboard.feed.dispatcher.interval:1s}")
+    public void dispatch() {
+        try {
+            int dispatched;
+            do {
+                dispatched = activityFeedService.dispatchPending();
+            } while (dispatched >= properties.getBatchSize());
+        } catch (RuntimeException e) {
+            // The batch rolled back and stays in the outbox for the next run
+            log.warn("Feed dispatch failed, retrying in {}", properties.getDispatcher().getInterval(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.app.echoboard.feed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Activity feed settings
+ */
+@ConfigurationProperties(prefix = "echoboard.feed")
+public class FeedProperties {
+
+    // Entries kept per user; older ones are trimmed when new entries arrive
+    private int maxEntries = 200;
+
+    // Outbox events fanned out per dispatcher transaction
+    private int batchSize = 100;
+
+    private Dispatcher dispatcher = new Dispatcher();
+
+    public int getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public Dispatcher getDispatcher() { return dispatcher; }
+    public void setDispatcher(Dispatcher dispatcher) { this.dispatcher = dispatcher; }
+
+    public static class Dispatcher {
+
+        private boolean enabled = true;
+
+        // Delay between polls of an empty outbox
+        private Duration interval = Duration.ofSeconds(1);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public Duration getInterval() { return interval; }
+        public void setInterval(Duration interval) { this.interval = interval; }
+    }
+}
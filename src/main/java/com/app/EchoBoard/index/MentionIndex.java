@@ -0,0 +1,208 @@
+package com.app.echoboard.index;
+
+import com.app.echoboard.dto.MentionSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory @-mention typeahead index
+ * Per project, an immutable array of (key, member) sorted by key. A member is keyed by its full
+ * name, every later word of its name ("lovelace" for "Ada Lovelace") and its OAuth username.
+ * Lookups binary-search the current array without locking; writes are serialized and swap in a new array
+ */
+public class MentionIndex {
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private static final Comparator<Entry> BY_KEY =
+        Comparator.comparing(Entry::key).thenComparing(entry -> entry.user().userId());
+
+    // Guarded by this; users also holds known active users without memberships
+    private final Map<Long, Set<Long>> membersByProject = new HashMap<>();
+    private final Map<Long, Set<Long>> projectsByUser = new HashMap<>();
+    private final Map<Long, MentionSuggestion> users = new HashMap<>();
+
+    // Published per-project arrays, read without locking
+    private final ConcurrentHashMap<Long, Entry[]> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Add (or refresh) an active member of a project
+     */
+    public synchronized void addMember(long projectId, MentionSuggestion user) {
+        stage(projectId, user);
+        publish(projectId);
+    }
+
+    /**
+     * Add a member without publishing; call publishAll() once staging is done (bulk load)
+     */
+    public synchronized void stage(long projectId, MentionSuggestion user) {
+        users.put(user.userId(), user);
+        membersByProject.computeIfAbsent(projectId, id -> new HashSet<>()).add(user.userId());
+        projectsByUser.computeIfAbsent(user.userId(), id -> new HashSet<>()).add(projectId);
+    }
+
+    public synchronized void publishAll() {
+        membersByProject.keySet().forEach(this::publish);
+    }
+
+    public synchronized void removeMember(long projectId, long userId) {
+        Set<Long> members = membersByProject.get(projectId);
+        if (members == null || !members.remove(userId)) {
+            return;
+        }
+        forgetProjectOf(userId, projectId);
+        publish(projectId);
+    }
+
+    /**
+     * Drop every member of a project
+     */
+    public synchronized void removeProject(long projectId) {
+        Set<Long> members = membersByProject.remove(projectId);
+        snapshots.remove(projectId);
+        if (members != null) {
+            members.forEach(userId -> forgetProjectOf(userId, projectId));
+        }
+    }
+
+    /**
+     * Replace the names of a user in every project it belongs to
+     * @return false if the user is not known to the index
+     */
+    public synchronized boolean updateUser(MentionSuggestion user) {
+        MentionSuggestion previous = users.get(user.userId());
+        if (previous == null) {
+            return false;
+        }
+        if (!previous.equals(user)) {
+            users.put(user.userId(), user);
+            projectsByUser.getOrDefault(user.userId(), Set.of()).forEach(this::publish);
+        }
+        return true;
+    }
+
+    /**
+     * Whether the user is known to the index, with or without memberships
+     */
+    public synchronized boolean containsUser(long userId) {
+        return users.containsKey(userId);
+    }
+
+    /**
+     * Add a user to each of the given projects (e.g. the account was reactivated) and refresh its names
+     * An empty collection still records the user, so later changes to it need no membership lookup
+     */
+    public synchronized void addUser(MentionSuggestion user, Collection<Long> projectIds) {
+        users.put(user.userId(), user);
+        projectIds.forEach(projectId -> stage(projectId, user));
+        projectsByUser.getOrDefault(user.userId(), Set.of()).forEach(this::publish);
+    }
+
+    /**
+     * Drop a user from every project (e.g. the account was deactivated)
+     */
+    public synchronized void removeUser(long userId) {
+        Set<Long> projects = projectsByUser.remove(userId);
+        users.remove(userId);
+        if (projects != null) {
+            for (Long projectId : projects) {
+                Set<Long> members = membersByProject.get(projectId);
+                members.remove(userId);
+                if (members.isEmpty()) {
+                    membersByProject.remove(projectId);
+                }
+                publish(projectId);
+            }
+        }
+    }
+
+    /**
+     * Members of a project whose name, a word of their name or OAuth username starts with prefix
+     * @param prefix typed text, a leading '@' is ignored; blank returns the first members in key order
+     * @param limit maximum number of members returned
+     */
+    public List<MentionSuggestion> lookup(long projectId, String prefix, int limit) {
+        Entry[] entries = snapshots.getOrDefault(projectId, EMPTY);
+        String key = normalize(prefix.startsWith("@") ? prefix.substring(1) : prefix);
+
+        // Lower bound: first entry with entry.key >= key
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].key().compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        Set<MentionSuggestion> matches = new LinkedHashSet<>();
+        for (int i = low; i < entries.length && matches.size() < limit && entries[i].key().startsWith(key); i++) {
+            matches.add(entries[i].user());
+        }
+        return new ArrayList<>(matches);
+    }
+
+    public int projectCount() {
+        return snapshots.size();
+    }
+
+    private void publish(long projectId) {
+        Set<Long> members = membersByProject.get(projectId);
+        if (members == null || members.isEmpty()) {
+            membersByProject.remove(projectId);
+            snapshots.remove(projectId);
+            return;
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (Long userId : members) {
+            MentionSuggestion user = users.get(userId);
+            keys(user).forEach(key -> entries.add(new Entry(key, user)));
+        }
+        Entry[] sorted = entries.toArray(EMPTY);
+        Arrays.sort(sorted, BY_KEY);
+        snapshots.put(projectId, sorted);
+    }
+
+    private void forgetProjectOf(long userId, long projectId) {
+        Set<Long> projects = projectsByUser.get(userId);
+        if (projects != null && projects.remove(projectId) && projects.isEmpty()) {
+            projectsByUser.remove(userId);
+        }
+    }
+
+    private static Set<String> keys(MentionSuggestion user) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = normalize(user.name());
+        if (!name.isEmpty()) {
+            keys.add(name);
+            for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+                keys.add(name.substring(i + 1));
+            }
+        }
+        String username = normalize(user.oauthUsername());
+        if (!username.isEmpty()) {
+            keys.add(username);
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String key, MentionSuggestion user) {}
+}
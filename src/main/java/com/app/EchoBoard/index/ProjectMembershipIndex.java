@@ -0,0 +1,134 @@
+package com.app.echoboard.index;
+
+import com.app.echoboard.model.Role;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory active membership index
+ * Per project, one compressed bitmap of active user IDs for each role
+ * Thread-safe; lookups take a per-project read lock and never touch the database
+ */
+public class ProjectMembershipIndex {
+
+    private static final Role[] ROLES = Role.values();
+
+    private final ConcurrentHashMap<Long, ProjectRoles> projects = new ConcurrentHashMap<>();
+
+    /**
+     * Set the membership state of a user in a project
+     * @param role active role, or null if the user is not an active member
+     */
+    public void apply(long projectId, long userId, Role role) {
+        if (role == null) {
+            ProjectRoles roles = projects.get(projectId);
+            if (roles != null) {
+                roles.set(userId, null);
+            }
+            return;
+        }
+        projects.computeIfAbsent(projectId, id -> new ProjectRoles()).set(userId, role);
+    }
+
+    /**
+     * Active role of a user in a project
+     * @return role, or null if the user is not an active member
+     */
+    public Role activeRole(long projectId, long userId) {
+        ProjectRoles roles = projects.get(projectId);
+        return roles != null ? roles.roleOf(userId) : null;
+    }
+
+    public boolean isActiveMember(long projectId, long userId) {
+        return activeRole(projectId, userId) != null;
+    }
+
+    public boolean hasRole(long projectId, long userId, Role role) {
+        ProjectRoles roles = projects.get(projectId);
+        return roles != null && roles.contains(userId, role);
+    }
+
+    /**
+     * Drop every membership of a project
+     */
+    public void removeProject(long projectId) {
+        projects.remove(projectId);
+    }
+
+    public int projectCount() {
+        return projects.size();
+    }
+
+    /**
+     * Approximate heap used by the bitmaps
+     */
+    public long memoryBytes() {
+        return projects.values().stream().mapToLong(ProjectRoles::sizeInBytes).sum();
+    }
+
+    /**
+     * Role bitmaps of one project
+     */
+    private static final class ProjectRoles {
+        private final StampedLock lock = new StampedLock();
+        private final Roaring64Bitmap[] byRole = new Roaring64Bitmap[ROLES.length];
+
+        ProjectRoles() {
+            for (int i = 0; i < ROLES.length; i++) {
+                byRole[i] = new Roaring64Bitmap();
+            }
+        }
+
+        void set(long userId, Role role) {
+            long stamp = lock.writeLock();
+            try {
+                for (Roaring64Bitmap bitmap : byRole) {
+                    bitmap.removeLong(userId);
+                }
+                if (role != null) {
+                    byRole[role.ordinal()].addLong(userId);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        Role roleOf(long userId) {
+            long stamp = lock.readLock();
+            try {
+                for (int i = 0; i < byRole.length; i++) {
+                    if (byRole[i].contains(userId)) {
+                        return ROLES[i];
+                    }
+                }
+                return null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        boolean contains(long userId, Role role) {
+            long stamp = lock.readLock();
+            try {
+                return byRole[role.ordinal()].contains(userId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long sizeInBytes() {
+            long stamp = lock.readLock();
+            try {
+                long bytes = 0;
+                for (Roaring64Bitmap bitmap : byRole) {
+                    bytes += bitmap.getLongSizeInBytes();
+                }
+                return bytes;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
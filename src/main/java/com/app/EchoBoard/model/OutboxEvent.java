@@ -0,0 +1,85 @@
+package com.app.echoboard.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox Event
+ * Activity recorded in the same transaction as the change it describes; FeedDispatcher fans it out
+ * into the affected users' feeds and deletes it, so an event is published if and only if its change commits
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private Type type;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // Member the event is about (null for project-level events)
+    @Column(name = "subject_user_id")
+    private Long subjectUserId;
+
+    // New role or status
+    @Column(name = "detail")
+    private String detail;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // Constructors
+    public OutboxEvent() {}
+
+    public OutboxEvent(Type type, Long projectId, Long subjectUserId, String detail) {
+        this.type = type;
+        this.projectId = projectId;
+        this.subjectUserId = subjectUserId;
+        this.detail = detail;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getSubjectUserId() {
+        return subjectUserId;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    /**
+     * Activity type
+     */
+    public enum Type {
+        MEMBER_JOINED,
+        MEMBER_LEFT,
+        MEMBER_SUSPENDED,
+        MEMBER_ROLE_CHANGED,
+        PROJECT_STATUS_CHANGED
+    }
+}
@@ -1,9 +1,12 @@
 package com.app.echoboard.model;
 
+import com.app.echoboard.event.ProjectEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,11 +19,16 @@ import java.util.Set;
  * Core unit of EchoBoard collaboration, supports small teams (2-10 members)
  */
 @Entity
-@Table(name = "projects")
+@Table(name = "projects",
+       indexes = @Index(name = "idx_projects_active_member_count", columnList = "active_member_count"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
+@EntityListeners(ProjectEntityListener.class)
 public class Project {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Project name cannot be blank")
@@ -66,6 +74,11 @@ public class Project {
     @Column(name = "max_members")
     private Integer maxMembers = 10; // Maximum member limit
 
+    // Denormalized number of ACTIVE members, kept in step by ProjectMembershipService
+    // (which locks this row for every membership change); the only stored member total
+    @Column(name = "active_member_count", nullable = false)
+    private Integer activeMemberCount = 0;
+
     // Audit fields
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -185,6 +198,10 @@ public class Project {
         this.maxMembers = maxMembers;
     }
 
+    public Integer getActiveMemberCount() {
+        return activeMemberCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -218,12 +235,27 @@ public class Project {
         return figmaFileUrl != null && figmaFileKey != null;
     }
 
+    /**
+     * Number of active members (read from the counter column, never loads the members collection)
+     */
     public int getMemberCount() {
-        return members != null ? members.size() : 0;
+        return activeMemberCount != null ? activeMemberCount : 0;
     }
 
     public boolean canAddMoreMembers() {
-        return getMemberCount() < maxMembers;
+        return maxMembers == null || getMemberCount() < maxMembers;
+    }
+
+    public void memberActivated() {
+        this.activeMemberCount = getMemberCount() + 1;
+    }
+
+    public void memberDeactivated() {
+        this.activeMemberCount = Math.max(0, getMemberCount() - 1);
+    }
+
+    public void resetMemberCount() {
+        this.activeMemberCount = 0;
     }
 
     @Override
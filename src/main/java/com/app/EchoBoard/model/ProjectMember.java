@@ -1,7 +1,10 @@
 package com.app.echoboard.model;
 
+import com.app.echoboard.event.ProjectMemberEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -14,10 +17,14 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "project_members", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "user_id"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-members")
+@EntityListeners(ProjectMemberEntityListener.class)
 public class ProjectMember {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_members_seq")
+    @SequenceGenerator(name = "project_members_seq", sequenceName = "project_members_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Project cannot be blank")
@@ -162,6 +169,10 @@ public class ProjectMember {
         this.leftAt = null;
     }
 
+    public void suspend() {
+        this.status = MemberStatus.SUSPENDED;
+    }
+
     /**
      * Check if this member has specific permissions in the project
      * Current MVP stage: All roles have view permission
@@ -171,14 +182,8 @@ public class ProjectMember {
         if (!isActive()) {
             return false;
         }
-        
-        // MVP stage: All active members have view permission
-        if ("view".equals(action)) {
-            return true;
-        }
-        
-        // Reserved: Future expansion of more complex permission logic
-        return projectRole.canView(resourceType);
+
+        return projectRole.allows(action, resourceType);
     }
 
     @Override
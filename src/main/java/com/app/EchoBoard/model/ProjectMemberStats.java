@@ -0,0 +1,145 @@
+package com.app.echoboard.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Project member aggregate
+ * One row per project (created with the project) with active member counts per role, last join time and
+ * spare capacity. The total lives only in Project.activeMemberCount; spare capacity is derived from it.
+ * Maintained incrementally by ProjectMembershipService under the project row lock, so capacity queries
+ * become indexed range scans instead of COUNT subqueries
+ */
+@Entity
+@Table(name = "project_member_stats",
+       indexes = {
+           @Index(name = "idx_project_member_stats_spare_capacity", columnList = "spare_capacity")
+       })
+public class ProjectMemberStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "developer_count", nullable = false)
+    private Integer developerCount = 0;
+
+    @Column(name = "designer_count", nullable = false)
+    private Integer designerCount = 0;
+
+    @Column(name = "product_owner_count", nullable = false)
+    private Integer productOwnerCount = 0;
+
+    @Column(name = "stakeholder_count", nullable = false)
+    private Integer stakeholderCount = 0;
+
+    @Column(name = "last_joined_at")
+    private LocalDateTime lastJoinedAt;
+
+    // max_members - projects.active_member_count (Integer.MAX_VALUE when the project has no limit)
+    @Column(name = "spare_capacity", nullable = false)
+    private Integer spareCapacity = 0;
+
+    // Constructors
+    public ProjectMemberStats() {}
+
+    public ProjectMemberStats(Project project) {
+        this.projectId = project.getId();
+        updateCapacity(project);
+    }
+
+    // Getters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Integer getDeveloperCount() {
+        return developerCount;
+    }
+
+    public Integer getDesignerCount() {
+        return designerCount;
+    }
+
+    public Integer getProductOwnerCount() {
+        return productOwnerCount;
+    }
+
+    public Integer getStakeholderCount() {
+        return stakeholderCount;
+    }
+
+    public LocalDateTime getLastJoinedAt() {
+        return lastJoinedAt;
+    }
+
+    public Integer getSpareCapacity() {
+        return spareCapacity;
+    }
+
+    // Business methods
+    public int countForRole(Role role) {
+        return switch (role) {
+            case DEVELOPER -> developerCount;
+            case DESIGNER -> designerCount;
+            case PRODUCT_OWNER -> productOwnerCount;
+            case STAKEHOLDER -> stakeholderCount;
+        };
+    }
+
+    /**
+     * Record an activation; the project's counter must already include the member
+     */
+    public void memberActivated(Role role, LocalDateTime joinedAt, Project project) {
+        adjustRole(role, 1);
+        if (lastJoinedAt == null || joinedAt.isAfter(lastJoinedAt)) {
+            lastJoinedAt = joinedAt;
+        }
+        updateCapacity(project);
+    }
+
+    /**
+     * Record a deactivation; the project's counter must already exclude the member
+     */
+    public void memberDeactivated(Role role, Project project) {
+        adjustRole(role, -1);
+        updateCapacity(project);
+    }
+
+    public void roleChanged(Role from, Role to) {
+        adjustRole(from, -1);
+        adjustRole(to, 1);
+    }
+
+    public void reset(Project project) {
+        developerCount = 0;
+        designerCount = 0;
+        productOwnerCount = 0;
+        stakeholderCount = 0;
+        updateCapacity(project);
+    }
+
+    public void updateCapacity(Project project) {
+        Integer maxMembers = project.getMaxMembers();
+        spareCapacity = maxMembers == null ? Integer.MAX_VALUE : Math.max(0, maxMembers - project.getMemberCount());
+    }
+
+    private void adjustRole(Role role, int delta) {
+        switch (role) {
+            case DEVELOPER -> developerCount = Math.max(0, developerCount + delta);
+            case DESIGNER -> designerCount = Math.max(0, designerCount + delta);
+            case PRODUCT_OWNER -> productOwnerCount = Math.max(0, productOwnerCount + delta);
+            case STAKEHOLDER -> stakeholderCount = Math.max(0, stakeholderCount + delta);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectMemberStats{" +
+                "projectId=" + projectId +
+                ", spareCapacity=" + spareCapacity +
+                ", lastJoinedAt=" + lastJoinedAt +
+                '}';
+    }
+}
@@ -51,6 +51,19 @@ public enum Role {
         return true;
     }
 
+    /**
+     * Check if an active member with this role may perform an action
+     * MVP stage: All active members have view permission
+     */
+    public boolean allows(String action, String resourceType) {
+        if ("view".equals(action)) {
+            return true;
+        }
+
+        // Reserved: Future expansion of more complex permission logic
+        return canView(resourceType);
+    }
+
     /**
      * Reserved: Future expansion of operation permissions
      * For example: Only PRODUCT_OWNER can create projects, DEVELOPER can update task status, etc.
@@ -0,0 +1,106 @@
+package com.app.echoboard.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * User Feed Entry
+ * One outbox event as seen by one user, with the project and member names copied in,
+ * so a feed page is a single range read on (user_id, occurred_at, id)
+ */
+@Entity
+@Table(name = "user_feed_entries",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_feed_entries_user_event", columnNames = {"user_id", "event_id"}),
+       indexes = @Index(name = "idx_user_feed_entries_user_occurred_at", columnList = "user_id, occurred_at, id"))
+public class UserFeedEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_feed_entries_seq")
+    @SequenceGenerator(name = "user_feed_entries_seq", sequenceName = "user_feed_entries_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEvent.Type type;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "project_name")
+    private String projectName;
+
+    @Column(name = "subject_user_id")
+    private Long subjectUserId;
+
+    @Column(name = "subject_user_name")
+    private String subjectUserName;
+
+    @Column(name = "detail")
+    private String detail;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // Constructors
+    public UserFeedEntry() {}
+
+    public UserFeedEntry(Long userId, OutboxEvent event, String projectName, String subjectUserName) {
+        this.userId = userId;
+        this.eventId = event.getId();
+        this.type = event.getType();
+        this.projectId = event.getProjectId();
+        this.projectName = projectName;
+        this.subjectUserId = event.getSubjectUserId();
+        this.subjectUserName = subjectUserName;
+        this.detail = event.getDetail();
+        this.occurredAt = event.getOccurredAt();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public OutboxEvent.Type getType() {
+        return type;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public Long getSubjectUserId() {
+        return subjectUserId;
+    }
+
+    public String getSubjectUserName() {
+        return subjectUserName;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.app.echoboard.monitoring;
+
+import java.util.List;
+
+/**
+ * One captured statement execution
+ * rows: rows read for queries, update count for writes, -1 when unknown
+ */
+public record SlowQueryEvent(
+    String sql,
+    List<Object> parameters,
+    long executionNanos,
+    long rows,
+    String caller,
+    String thread,
+    boolean slow
+) {
+}
@@ -0,0 +1,187 @@
+package com.app.echoboard.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Slow-query log
+ * Request threads only decide whether a statement is logged and hand a SlowQueryEvent to a bounded
+ * ring buffer (never waiting: when the buffer is full the event is dropped and counted). A background
+ * appender thread renders and writes the events to the "echoboard.slow-query" logger
+ */
+public class SlowQueryLog implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger("echoboard.slow-query");
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final boolean redactStrings;
+    private final int maxSqlLength;
+    private final int maxParameterLength;
+    private final BlockingQueue<SlowQueryEvent> buffer;
+    private final Consumer<SlowQueryEvent> sink;
+    private final Thread appender;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running = true;
+    private Counter slowStatements;
+    private Counter sampledStatements;
+
+    public SlowQueryLog(SlowQueryProperties properties) {
+        this(properties, null);
+    }
+
+    SlowQueryLog(SlowQueryProperties properties, Consumer<SlowQueryEvent> sink) {
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.sampleRate = properties.getSampleRate();
+        this.redactStrings = properties.isRedactStrings();
+        this.maxSqlLength = properties.getMaxSqlLength();
+        this.maxParameterLength = properties.getMaxParameterLength();
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.sink = sink != null ? sink : this::write;
+        this.appender = new Thread(this::drain, "slow-query-appender");
+        this.appender.setDaemon(true);
+        this.appender.start();
+    }
+
+    /**
+     * Whether a statement that executed for the given time should be captured
+     */
+    boolean shouldCapture(long executionNanos) {
+        return executionNanos >= thresholdNanos
+            || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    boolean isSlow(long executionNanos) {
+        return executionNanos >= thresholdNanos;
+    }
+
+    /**
+     * Hand an event to the appender without blocking
+     */
+    void submit(SlowQueryEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        Counter counter = event.slow() ? slowStatements : sampledStatements;
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                sink.accept(buffer.take());
+            } catch (InterruptedException e) {
+                break;
+            } catch (RuntimeException e) {
+                log.debug("Failed to write slow-query event", e);
+            }
+        }
+        List<SlowQueryEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        remaining.forEach(sink);
+    }
+
+    private void write(SlowQueryEvent event) {
+        String message = "{} ms, {} rows, {} [{}]: {} {}";
+        Object[] arguments = {
+            String.format("%.1f", event.executionNanos() / 1_000_000.0),
+            event.rows() >= 0 ? event.rows() : "?",
+            event.caller(),
+            event.thread(),
+            truncate(event.sql().replaceAll("\\s+", " ").trim(), maxSqlLength),
+            render(event.parameters())
+        };
+        if (event.slow()) {
+            log.warn(message, arguments);
+        } else {
+            log.info(message, arguments);
+        }
+    }
+
+    String render(List<Object> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
+        StringBuilder rendered = new StringBuilder("[");
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                rendered.append(", ");
+            }
+            rendered.append(renderValue(parameters.get(i)));
+        }
+        return rendered.append(']').toString();
+    }
+
+    private String renderValue(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof java.time.temporal.Temporal
+                || value instanceof java.util.Date || value instanceof Enum<?>) {
+            return value.toString();
+        }
+        if (value instanceof CharSequence text) {
+            if (redactStrings) {
+                return "'***'(" + text.length() + ")";
+            }
+            return "'" + truncate(text.toString(), maxParameterLength) + "'";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        slowStatements = Counter.builder("echoboard.sql.slow-query.logged")
+            .description("Statements written to the slow-query log")
+            .tag("reason", "threshold")
+            .register(registry);
+        sampledStatements = Counter.builder("echoboard.sql.slow-query.logged")
+            .description("Statements written to the slow-query log")
+            .tag("reason", "sample")
+            .register(registry);
+        FunctionCounter.builder("echoboard.sql.slow-query.dropped", dropped, AtomicLong::get)
+            .description("Slow-query events dropped because the buffer was full")
+            .register(registry);
+    }
+
+    /**
+     * Stop the appender after writing what is still buffered
+     */
+    @Override
+    public void close() {
+        running = false;
+        appender.interrupt();
+        try {
+            appender.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
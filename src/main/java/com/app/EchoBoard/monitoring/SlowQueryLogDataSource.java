@@ -0,0 +1,228 @@
+package com.app.echoboard.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DataSource that times every statement execution and reports the ones SlowQueryLog wants to capture
+ * Bind parameters are remembered per prepared statement; for queries the event is emitted when the
+ * result set (or the statement) is closed so it can carry the number of rows read
+ */
+public class SlowQueryLogDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryLogDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Identity semantics for proxies (the target's equals would compare against the proxy)
+     */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return (method.getName().equals("equals") && method.getParameterCount() == 1)
+            || (method.getName().equals("hashCode") && method.getParameterCount() == 0);
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = SlowQueryLogDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, null));
+                case "prepareStatement" -> proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" -> proxy(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private static final Object[] NO_PARAMETERS = new Object[0];
+
+        private final Statement target;
+        private final String preparedSql;
+        private Object[] parameters = NO_PARAMETERS;
+        private int parameterCount;
+
+        // Query whose event waits for its rows to be counted
+        private String pendingSql;
+        private List<Object> pendingParameters;
+        private long pendingNanos;
+        private long pendingRows;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                remember(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameterCount = 0;
+            } else if (name.startsWith("execute")) {
+                return execute(method, args);
+            } else if (name.equals("close")) {
+                flushPending();
+            }
+            return SlowQueryLogDataSource.invoke(target, method, args);
+        }
+
+        private void remember(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            flushPending();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            Object result = SlowQueryLogDataSource.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            if (result instanceof ResultSet resultSet) {
+                // Queries are reported once their rows are known
+                pendingSql = sql;
+                pendingParameters = snapshot();
+                pendingNanos = elapsed;
+                pendingRows = 0;
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, this));
+            }
+            if (slowQueryLog.shouldCapture(elapsed)) {
+                slowQueryLog.submit(event(sql, snapshot(), elapsed, rows(result)));
+            }
+            return result;
+        }
+
+        private long rows(Object result) throws SQLException {
+            if (result instanceof Number count) {
+                return count.longValue();
+            }
+            if (result instanceof int[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).asLongStream().sum();
+            }
+            if (result instanceof long[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).sum();
+            }
+            if (Boolean.FALSE.equals(result)) {
+                return target.getUpdateCount();
+            }
+            return -1;
+        }
+
+        private List<Object> snapshot() {
+            return parameterCount == 0 ? List.of() : new ArrayList<>(Arrays.asList(parameters).subList(0, parameterCount));
+        }
+
+        void rowRead() {
+            pendingRows++;
+        }
+
+        void flushPending() {
+            if (pendingSql == null) {
+                return;
+            }
+            if (slowQueryLog.shouldCapture(pendingNanos)) {
+                slowQueryLog.submit(event(pendingSql, pendingParameters, pendingNanos, pendingRows));
+            }
+            pendingSql = null;
+            pendingParameters = null;
+        }
+
+        private SlowQueryEvent event(String sql, List<Object> parameters, long nanos, long rows) {
+            return new SlowQueryEvent(sql != null ? sql : "?", parameters, nanos, rows,
+                SqlCallSite.current(), Thread.currentThread().getName(), slowQueryLog.isSlow(nanos));
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final StatementHandler statement;
+
+        private ResultSetHandler(ResultSet target, StatementHandler statement) {
+            this.target = target;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = SlowQueryLogDataSource.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                statement.rowRead();
+            } else if (method.getName().equals("close")) {
+                statement.flushPending();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.app.echoboard.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Slow-query log settings
+ */
+@ConfigurationProperties(prefix = "echoboard.sql.slow-query")
+public class SlowQueryProperties {
+
+    // Wrap the DataSource and log at all
+    private boolean enabled = true;
+
+    // Statements executing at least this long are always logged (WARN)
+    private Duration threshold = Duration.ofMillis(100);
+
+    // Fraction of faster statements logged as a sample (INFO); 0 disables sampling
+    private double sampleRate = 0.0;
+
+    // Events waiting for the appender; when full new events are dropped and counted
+    private int bufferSize = 4096;
+
+    // Log string bind parameters as '***' with their length
+    private boolean redactStrings = true;
+
+    // Longer SQL text and (unredacted) string parameters are truncated
+    private int maxSqlLength = 2000;
+    private int maxParameterLength = 64;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getThreshold() { return threshold; }
+    public void setThreshold(Duration threshold) { this.threshold = threshold; }
+
+    public double getSampleRate() { return sampleRate; }
+    public void setSampleRate(double sampleRate) { this.sampleRate = sampleRate; }
+
+    public int getBufferSize() { return bufferSize; }
+    public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+
+    public boolean isRedactStrings() { return redactStrings; }
+    public void setRedactStrings(boolean redactStrings) { this.redactStrings = redactStrings; }
+
+    public int getMaxSqlLength() { return maxSqlLength; }
+    public void setMaxSqlLength(int maxSqlLength) { this.maxSqlLength = maxSqlLength; }
+
+    public int getMaxParameterLength() { return maxParameterLength; }
+    public void setMaxParameterLength(int maxParameterLength) { this.maxParameterLength = maxParameterLength; }
+}
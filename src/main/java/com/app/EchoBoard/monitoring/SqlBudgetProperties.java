@@ -0,0 +1,28 @@
+package com.app.echoboard.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request SQL statement budget settings
+ */
+@ConfigurationProperties(prefix = "echoboard.sql.budget")
+public class SqlBudgetProperties {
+
+    // Count statements per request at all
+    private boolean enabled = true;
+
+    // Requests preparing more statements than this are logged and counted as over budget
+    private int maxStatements = 20;
+
+    // A SELECT shape prepared this many times in one request is reported as a possible N+1
+    private int repeatThreshold = 5;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxStatements() { return maxStatements; }
+    public void setMaxStatements(int maxStatements) { this.maxStatements = maxStatements; }
+
+    public int getRepeatThreshold() { return repeatThreshold; }
+    public void setRepeatThreshold(int repeatThreshold) { this.repeatThreshold = repeatThreshold; }
+}
@@ -0,0 +1,71 @@
+package com.app.echoboard.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.List;
+
+/**
+ * Names the code that issued a statement: the repository method being invoked on this thread,
+ * or else the nearest application frame on the stack (only resolved for statements that get logged)
+ */
+public final class SqlCallSite {
+
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final String APPLICATION_PACKAGE = "com.app.echoboard.";
+    // JDBC wrapper frames between the caller and the driver: these classes with their nested classes,
+    // and the datasource package
+    private static final List<String> INFRASTRUCTURE_CLASSES = List.of(
+        SqlCallSite.class.getName(),
+        SlowQueryLogDataSource.class.getName());
+    private static final String DATASOURCE_PACKAGE = "com.app.echoboard.datasource.";
+
+    private SqlCallSite() {}
+
+    public static String current() {
+        String repositoryMethod = REPOSITORY_METHOD.get();
+        if (repositoryMethod != null) {
+            return repositoryMethod;
+        }
+        return WALKER.walk(frames -> frames
+            .filter(frame -> isCaller(frame.getClassName()))
+            .findFirst()
+            .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+            .orElse("unknown"));
+    }
+
+    private static boolean isCaller(String className) {
+        if (!className.startsWith(APPLICATION_PACKAGE) || className.startsWith(DATASOURCE_PACKAGE)) {
+            return false;
+        }
+        return INFRASTRUCTURE_CLASSES.stream()
+            .noneMatch(name -> className.equals(name) || className.startsWith(name + "$"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Repository proxy advice recording Interface.method for the duration of the call
+     */
+    public static MethodInterceptor repositoryInterceptor(Class<?> repositoryInterface) {
+        String prefix = repositoryInterface.getSimpleName() + ".";
+        return (MethodInvocation invocation) -> {
+            String previous = REPOSITORY_METHOD.get();
+            REPOSITORY_METHOD.set(prefix + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous != null) {
+                    REPOSITORY_METHOD.set(previous);
+                } else {
+                    REPOSITORY_METHOD.remove();
+                }
+            }
+        };
+    }
+}
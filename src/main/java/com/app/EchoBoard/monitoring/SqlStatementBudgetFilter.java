@@ -0,0 +1,93 @@
+package com.app.echoboard.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each HTTP request prepares and reports likely N+1 patterns
+ * Meters: echoboard.sql.statements (per request), echoboard.sql.budget.exceeded, echoboard.sql.n-plus-one,
+ * all tagged by method and URI pattern. The count is also left in a request attribute for tests
+ * (work handed to another thread, e.g. streaming exports, is not counted)
+ */
+@Component
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    /**
+     * Request attribute holding the number of statements the request prepared (Integer)
+     */
+    public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".statements";
+
+    @Autowired
+    private SqlBudgetProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementScope scope = SqlStatementScope.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementScope scope) {
+        int statements = scope.statements();
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("echoboard.sql.statements")
+            .description("SQL statements prepared per HTTP request")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(statements);
+
+        if (statements > properties.getMaxStatements()) {
+            log.warn("{} {} prepared {} SQL statements (budget {})", method, uri, statements, properties.getMaxStatements());
+            Counter.builder("echoboard.sql.budget.exceeded")
+                .description("Requests that prepared more SQL statements than the budget")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .increment();
+        }
+
+        Map<String, Integer> repeated = scope.repeatedSelects(properties.getRepeatThreshold());
+        if (!repeated.isEmpty()) {
+            repeated.forEach((shape, count) ->
+                log.warn("Possible N+1 in {} {}: {} x {}", method, uri, count, shape));
+            Counter.builder("echoboard.sql.n-plus-one")
+                .description("Requests that repeated the same SELECT shape past the threshold")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.app.echoboard.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector that counts every prepared statement into the thread's open SqlStatementScope
+ * Leaves the SQL unchanged
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementScope scope = SqlStatementScope.current();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+}
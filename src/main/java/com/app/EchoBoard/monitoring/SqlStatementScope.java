@@ -0,0 +1,92 @@
+package com.app.echoboard.monitoring;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements prepared by Hibernate on the current thread while this scope is open
+ * Opened per HTTP request by SqlStatementBudgetFilter; scopes nest and restore the outer one on close
+ */
+public final class SqlStatementScope implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStatementScope outer;
+    private int statements;
+    // Normalized SELECT text -> times prepared
+    private final Map<String, Integer> selectShapes = new HashMap<>();
+
+    private SqlStatementScope(SqlStatementScope outer) {
+        this.outer = outer;
+    }
+
+    public static SqlStatementScope open() {
+        SqlStatementScope scope = new SqlStatementScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Innermost open scope of this thread, or null
+     */
+    public static SqlStatementScope current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql) {
+        statements++;
+        String shape = shapeOf(sql);
+        if (shape.startsWith("select")) {
+            selectShapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Number of statements prepared in this scope
+     */
+    public int statements() {
+        return statements;
+    }
+
+    /**
+     * SELECT shapes prepared at least threshold times, the usual signature of an N+1 loop
+     * @return shape -> times prepared, most repeated first
+     */
+    public Map<String, Integer> repeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        selectShapes.entrySet().stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    @Override
+    public void close() {
+        if (outer != null) {
+            outer.statements += statements;
+            selectShapes.forEach((shape, count) -> outer.selectShapes.merge(shape, count, Integer::sum));
+            CURRENT.set(outer);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Statement text with literals and IN-list lengths erased, so executions that differ only
+     * in their values compare equal
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("?...");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+}
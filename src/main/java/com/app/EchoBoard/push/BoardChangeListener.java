@@ -0,0 +1,42 @@
+package com.app.echoboard.push;
+
+import com.app.echoboard.dto.BoardDelta;
+import com.app.echoboard.event.ProjectChangedEvent;
+import com.app.echoboard.event.ProjectMemberChangedEvent;
+import com.app.echoboard.event.ProjectMembersDeactivatedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Feeds committed project and membership changes into the board push topics
+ */
+@Component
+public class BoardChangeListener {
+
+    @Autowired
+    private BoardPushHub boardPushHub;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectMemberChanged(ProjectMemberChangedEvent event) {
+        boardPushHub.memberChanged(event.projectId(),
+            new BoardDelta.MemberState(event.userId(), event.projectRole(), event.status(), event.removed()));
+        if (!event.isActiveMembership()) {
+            boardPushHub.revoke(event.projectId(), event.userId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        boardPushHub.projectChanged(event.projectId(),
+            new BoardDelta.ProjectState(event.name(), event.status(), event.removed()));
+        if (event.removed()) {
+            boardPushHub.revokeAll(event.projectId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectMembersDeactivated(ProjectMembersDeactivatedEvent event) {
+        boardPushHub.revokeAll(event.projectId());
+    }
+}
@@ -0,0 +1,213 @@
+package com.app.echoboard.push;
+
+import com.app.echoboard.dto.BoardDelta;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * Real-time board push: one topic per project, Server-Sent Events to its subscribers
+ * Committed changes are merged per topic for the coalescing window and sent as one delta, serialized
+ * once and shared by every subscriber. Each connection has a bounded buffer drained on a virtual thread,
+ * so an idle connection holds no thread and a slow one only loses its own backlog (see BoardSubscriber).
+ * Subscribers whose membership ends receive a revoked event and are disconnected
+ */
+public class BoardPushHub implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardPushHub.class);
+
+    private final PushProperties properties;
+    private final ObjectMapper objectMapper;
+    // (projectId, userId) -> whether the user is still an active member
+    private final BiPredicate<Long, Long> activeMember;
+    private final ConcurrentHashMap<Long, ProjectTopic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // Coalescing timers and heartbeats
+    private final ScheduledExecutorService scheduler;
+    // Per-connection sender tasks
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder deltas = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+
+    public BoardPushHub(PushProperties properties, ObjectMapper objectMapper, BiPredicate<Long, Long> activeMember) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.activeMember = activeMember;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-push");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+        scheduler.scheduleAtFixedRate(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a stream for a project (the caller has checked that the user is an active member)
+     */
+    public SseEmitter subscribe(Long projectId, Long userId) {
+        return subscribe(projectId, userId, new SseEmitter(properties.getTimeout().toMillis()));
+    }
+
+    /**
+     * Attach an existing emitter to a project topic
+     * The first event is "subscribed" with the current sequence: deltas after it follow on from that number.
+     * Membership is checked again once the subscriber is registered: a revoke that ran between the caller's
+     * check and the registration found nothing to close, so the stream is revoked here instead
+     */
+    public SseEmitter subscribe(Long projectId, Long userId, SseEmitter emitter) {
+        BoardSubscriber subscriber = new BoardSubscriber(userId, emitter, properties.getBufferSize(), senders,
+            closed -> unsubscribe(projectId, closed));
+
+        ProjectTopic topic = topics.compute(projectId, (id, existing) -> {
+            ProjectTopic current = existing != null ? existing : new ProjectTopic(id);
+            subscriber.offer(BoardSubscriber.Message.of("subscribed", current.sequence()));
+            current.subscribers().add(subscriber);
+            subscriberCount.incrementAndGet();
+            return current;
+        });
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        if (!activeMember.test(projectId, userId)) {
+            subscriber.finish(BoardSubscriber.Message.of("revoked", topic.sequence()));
+        }
+        return emitter;
+    }
+
+    /**
+     * A committed member change (ignored when nobody is subscribed to the project)
+     */
+    public void memberChanged(Long projectId, BoardDelta.MemberState member) {
+        changes.increment();
+        ProjectTopic topic = topics.get(projectId);
+        if (topic != null && topic.memberChanged(member)) {
+            scheduleFlush(topic);
+        }
+    }
+
+    /**
+     * A committed project change (ignored when nobody is subscribed to the project)
+     */
+    public void projectChanged(Long projectId, BoardDelta.ProjectState project) {
+        changes.increment();
+        ProjectTopic topic = topics.get(projectId);
+        if (topic != null && topic.projectChanged(project)) {
+            scheduleFlush(topic);
+        }
+    }
+
+    /**
+     * Disconnect a user's streams of a project after sending "revoked"
+     */
+    public void revoke(Long projectId, Long userId) {
+        ProjectTopic topic = topics.get(projectId);
+        if (topic != null) {
+            topic.subscribers().stream()
+                .filter(subscriber -> subscriber.userId().equals(userId))
+                .forEach(subscriber -> subscriber.finish(BoardSubscriber.Message.of("revoked", topic.sequence())));
+        }
+    }
+
+    /**
+     * Disconnect every stream of a project after sending "revoked"
+     */
+    public void revokeAll(Long projectId) {
+        ProjectTopic topic = topics.get(projectId);
+        if (topic != null) {
+            topic.subscribers().forEach(subscriber -> subscriber.finish(BoardSubscriber.Message.of("revoked", topic.sequence())));
+        }
+    }
+
+    public int subscribers() {
+        return subscriberCount.get();
+    }
+
+    public int topics() {
+        return topics.size();
+    }
+
+    private void scheduleFlush(ProjectTopic topic) {
+        scheduler.schedule(() -> flush(topic), properties.getCoalesceWindow().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void flush(ProjectTopic topic) {
+        BoardDelta delta = topic.takeDelta();
+        if (delta == null) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize board delta for project {}", delta.projectId(), e);
+            return;
+        }
+        deltas.increment();
+        BoardSubscriber.Message message = new BoardSubscriber.Message("delta", delta.sequence(), json);
+        for (BoardSubscriber subscriber : topic.subscribers()) {
+            if (!subscriber.offer(message)) {
+                resyncs.increment();
+            }
+        }
+    }
+
+    private void heartbeat() {
+        topics.values().forEach(topic -> topic.subscribers().forEach(BoardSubscriber::heartbeat));
+    }
+
+    private void unsubscribe(Long projectId, BoardSubscriber subscriber) {
+        topics.computeIfPresent(projectId, (id, topic) -> {
+            if (topic.subscribers().remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return topic.subscribers().isEmpty() ? null : topic;
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("echoboard.push.subscribers", this, BoardPushHub::subscribers)
+            .description("Open board push connections")
+            .register(registry);
+        Gauge.builder("echoboard.push.topics", this, BoardPushHub::topics)
+            .description("Projects with at least one subscriber")
+            .register(registry);
+        FunctionCounter.builder("echoboard.push.changes", changes, LongAdder::sum)
+            .description("Committed board changes")
+            .register(registry);
+        FunctionCounter.builder("echoboard.push.deltas", deltas, LongAdder::sum)
+            .description("Coalesced deltas sent to a topic")
+            .register(registry);
+        FunctionCounter.builder("echoboard.push.resyncs", resyncs, LongAdder::sum)
+            .description("Connection buffers dropped and replaced by a resync event")
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        topics.values().forEach(topic -> topic.subscribers().forEach(BoardSubscriber::close));
+        senders.shutdownNow();
+    }
+}
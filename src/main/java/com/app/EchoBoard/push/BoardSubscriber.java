@@ -0,0 +1,163 @@
+package com.app.echoboard.push;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One SSE connection
+ * Messages go through a bounded buffer drained by at most one sender task at a time, so a slow
+ * reader blocks only its own (virtual) sender thread. When the buffer is full it is cleared and
+ * replaced by a single resync event: the client refetches the board instead of receiving a backlog
+ */
+final class BoardSubscriber {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Message> buffer;
+    private final Executor sender;
+    private final Consumer<BoardSubscriber> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile boolean finishing;
+    private volatile boolean closed;
+
+    BoardSubscriber(Long userId, SseEmitter emitter, int bufferSize, Executor sender, Consumer<BoardSubscriber> onClose) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+        this.onClose = onClose;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    /**
+     * Queue a message
+     * @return false if the buffer overflowed and was replaced by a resync event
+     */
+    boolean offer(Message message) {
+        if (closed || finishing) {
+            return true;
+        }
+        boolean accepted = buffer.offer(message);
+        if (!accepted) {
+            synchronized (buffer) {
+                buffer.clear();
+                buffer.offer(Message.resync(message.sequence()));
+            }
+        }
+        drain();
+        return accepted;
+    }
+
+    /**
+     * Queue a heartbeat, only if nothing else is waiting to be sent
+     */
+    void heartbeat() {
+        if (!closed && !finishing && buffer.isEmpty() && buffer.offer(Message.HEARTBEAT)) {
+            drain();
+        }
+    }
+
+    /**
+     * Send a last message after anything already buffered, then end the stream
+     */
+    void finish(Message last) {
+        if (closed || finishing) {
+            return;
+        }
+        synchronized (buffer) {
+            if (!buffer.offer(last)) {
+                buffer.clear();
+                buffer.offer(last);
+            }
+        }
+        finishing = true;
+        drain();
+    }
+
+    /**
+     * End the stream without sending anything else (connection closed or application shutting down)
+     */
+    void close() {
+        if (!closed) {
+            closed = true;
+            buffer.clear();
+            onClose.accept(this);
+            emitter.complete();
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    private void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(this::sendBuffered);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            draining.set(false);
+        }
+    }
+
+    private void sendBuffered() {
+        try {
+            while (!closed) {
+                Message message = buffer.poll();
+                if (message != null) {
+                    message.sendTo(emitter);
+                    continue;
+                }
+                if (finishing) {
+                    close();
+                    return;
+                }
+                draining.set(false);
+                // An offer may have raced with the reset; pick it up unless another sender already did
+                if (buffer.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            close();
+        }
+    }
+
+    /**
+     * Pre-serialized SSE message (data is written as-is, so a delta is encoded once for all subscribers)
+     */
+    record Message(String name, long sequence, String data) {
+
+        static final Message HEARTBEAT = new Message(null, 0, null);
+
+        static Message of(String name, long sequence) {
+            return new Message(name, sequence, "{\"sequence\":" + sequence + "}");
+        }
+
+        static Message resync(long sequence) {
+            return of("resync", sequence);
+        }
+
+        void sendTo(SseEmitter emitter) throws IOException {
+            if (name == null) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                emitter.send(SseEmitter.event().name(name).id(Long.toString(sequence)).data(data));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.app.echoboard.push;
+
+import com.app.echoboard.dto.BoardDelta;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Subscribers of one project plus the changes waiting for the next delta
+ * Pending member changes are keyed by user, so only the latest state of each member is sent
+ */
+final class ProjectTopic {
+
+    private final Long projectId;
+    private final Set<BoardSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private long sequence;
+    private BoardDelta.ProjectState pendingProject;
+    private final Map<Long, BoardDelta.MemberState> pendingMembers = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    ProjectTopic(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    Set<BoardSubscriber> subscribers() {
+        return subscribers;
+    }
+
+    synchronized long sequence() {
+        return sequence;
+    }
+
+    /**
+     * @return true if the caller must schedule a flush (the first change of a window)
+     */
+    synchronized boolean memberChanged(BoardDelta.MemberState member) {
+        pendingMembers.put(member.userId(), member);
+        return scheduleFlush();
+    }
+
+    /**
+     * @return true if the caller must schedule a flush (the first change of a window)
+     */
+    synchronized boolean projectChanged(BoardDelta.ProjectState project) {
+        pendingProject = project;
+        return scheduleFlush();
+    }
+
+    /**
+     * Take the pending changes as the next delta, or null if there are none
+     */
+    synchronized BoardDelta takeDelta() {
+        flushScheduled = false;
+        if (pendingProject == null && pendingMembers.isEmpty()) {
+            return null;
+        }
+        BoardDelta delta = new BoardDelta(projectId, ++sequence, pendingProject, new ArrayList<>(pendingMembers.values()));
+        pendingProject = null;
+        pendingMembers.clear();
+        return delta;
+    }
+
+    private boolean scheduleFlush() {
+        if (flushScheduled) {
+            return false;
+        }
+        flushScheduled = true;
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.app.echoboard.push;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Board push settings
+ */
+@ConfigurationProperties(prefix = "echoboard.push")
+public class PushProperties {
+
+    // Changes to one project within this window are sent as a single delta
+    private Duration coalesceWindow = Duration.ofMillis(250);
+
+    // Messages buffered per connection; on overflow the buffer is replaced by a resync event
+    private int bufferSize = 32;
+
+    // Comment sent to idle connections so proxies keep them open and dead ones are detected
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+    // Connection lifetime; clients reconnect afterwards
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public Duration getCoalesceWindow() { return coalesceWindow; }
+    public void setCoalesceWindow(Duration coalesceWindow) { this.coalesceWindow = coalesceWindow; }
+
+    public int getBufferSize() { return bufferSize; }
+    public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+
+    public Duration getHeartbeatInterval() { return heartbeatInterval; }
+    public void setHeartbeatInterval(Duration heartbeatInterval) { this.heartbeatInterval = heartbeatInterval; }
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+}
@@ -0,0 +1,42 @@
+package com.app.echoboard.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * R2DBC connection settings for the reactive read API
+ * When url is blank it is derived from spring.datasource.url (H2 in-memory and PostgreSQL URLs),
+ * so both stacks read the same database
+ */
+@ConfigurationProperties(prefix = "echoboard.r2dbc")
+public class ReactiveDataProperties {
+
+    private String url;
+
+    // Credentials default to spring.datasource.username / password
+    private String username;
+    private String password;
+
+    private int initialSize = 2;
+    private int maxSize = 20;
+    private Duration maxIdleTime = Duration.ofMinutes(30);
+
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+
+    public int getInitialSize() { return initialSize; }
+    public void setInitialSize(int initialSize) { this.initialSize = initialSize; }
+
+    public int getMaxSize() { return maxSize; }
+    public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+
+    public Duration getMaxIdleTime() { return maxIdleTime; }
+    public void setMaxIdleTime(Duration maxIdleTime) { this.maxIdleTime = maxIdleTime; }
+}
@@ -0,0 +1,73 @@
+package com.app.echoboard.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * R2DBC connection pool and DatabaseClient for the reactive read API
+ * Deliberately not exposed as a ConnectionFactory bean: that would switch off the JDBC DataSource
+ * auto-configuration the JPA stack depends on
+ */
+public class ReactiveDatabase implements AutoCloseable {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactiveDatabase(ReactiveDataProperties properties, String url, String username, String password) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+            .name("r2dbc")
+            .initialSize(properties.getInitialSize())
+            .maxSize(properties.getMaxSize())
+            .maxIdleTime(properties.getMaxIdleTime())
+            .build());
+        this.client = DatabaseClient.create(pool);
+    }
+
+    public DatabaseClient client() {
+        return client;
+    }
+
+    public ConnectionPool pool() {
+        return pool;
+    }
+
+    /**
+     * R2DBC URL for a JDBC URL, or null if there is no equivalent
+     * jdbc:h2:mem:name;OPTS becomes r2dbc:h2:mem:///name?options=OPTS, jdbc:postgresql://host/db?params
+     * becomes r2dbc:postgresql://host/db (JDBC driver parameters are dropped)
+     */
+    public static String r2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null) {
+            return null;
+        }
+        if (jdbcUrl.startsWith("jdbc:h2:mem:")) {
+            String database = jdbcUrl.substring("jdbc:h2:mem:".length());
+            int options = database.indexOf(';');
+            if (options < 0) {
+                return "r2dbc:h2:mem:///" + database;
+            }
+            return "r2dbc:h2:mem:///" + database.substring(0, options) + "?options=" + database.substring(options + 1);
+        }
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            String target = jdbcUrl.substring("jdbc:".length());
+            int parameters = target.indexOf('?');
+            return "r2dbc:" + (parameters < 0 ? target : target.substring(0, parameters));
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,106 @@
+package com.app.echoboard.reactive;
+
+import com.app.echoboard.dto.ProjectMemberSummary;
+import com.app.echoboard.dto.UserSummary;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only queries over R2DBC
+ * Same results as the matching JPA queries, mapped straight to read models; multi-row results are
+ * Flux streams that fetch rows as the subscriber requests them
+ */
+public class ReactiveReadRepository {
+
+    private static final String USER_COLUMNS =
+        "u.id, u.email, u.name, u.avatar_url, u.role, u.oauth_provider, u.oauth_username, u.is_active, u.created_at";
+
+    private final DatabaseClient client;
+
+    public ReactiveReadRepository(DatabaseClient client) {
+        this.client = client;
+    }
+
+    public Mono<UserSummary> findUserById(Long id) {
+        return client.sql("SELECT " + USER_COLUMNS + " FROM users u WHERE u.id = :id")
+            .bind("id", id)
+            .map(ReactiveReadRepository::userSummary)
+            .one();
+    }
+
+    public Mono<UserSummary> findUserByEmail(String email) {
+        return client.sql("SELECT " + USER_COLUMNS + " FROM users u WHERE u.email = :email")
+            .bind("email", email)
+            .map(ReactiveReadRepository::userSummary)
+            .one();
+    }
+
+    /**
+     * Users of a role, ordered by ID, starting after afterId (keyset)
+     */
+    public Flux<UserSummary> findUsersByRole(Role role, long afterId, int limit) {
+        return client.sql("SELECT " + USER_COLUMNS + " FROM users u " +
+                          "WHERE u.role = :role AND u.id > :afterId ORDER BY u.id LIMIT :limit")
+            .bind("role", role.name())
+            .bind("afterId", afterId)
+            .bind("limit", limit)
+            .map(ReactiveReadRepository::userSummary)
+            .all();
+    }
+
+    /**
+     * Equivalent of UserRepository.findActiveUsersByProjectId
+     * (project_id + user_id is unique, so no DISTINCT is needed)
+     */
+    public Flux<UserSummary> findActiveUsersByProjectId(Long projectId) {
+        return client.sql("SELECT " + USER_COLUMNS + " FROM users u " +
+                          "JOIN project_members pm ON pm.user_id = u.id " +
+                          "WHERE pm.project_id = :projectId AND pm.status = 'ACTIVE' ORDER BY u.id")
+            .bind("projectId", projectId)
+            .map(ReactiveReadRepository::userSummary)
+            .all();
+    }
+
+    /**
+     * Equivalent of ProjectMemberRepository.findRecentProjectMembers, newest first
+     */
+    public Flux<ProjectMemberSummary> findRecentProjectMembers(Long projectId, int limit) {
+        return client.sql("SELECT pm.id, pm.project_id, pm.user_id, u.name, pm.project_role, pm.join_method, pm.joined_at " +
+                          "FROM project_members pm JOIN users u ON u.id = pm.user_id " +
+                          "WHERE pm.project_id = :projectId AND pm.status = 'ACTIVE' " +
+                          "ORDER BY pm.joined_at DESC LIMIT :limit")
+            .bind("projectId", projectId)
+            .bind("limit", limit)
+            .map(row -> {
+                String joinMethod = row.get("join_method", String.class);
+                return new ProjectMemberSummary(
+                    row.get("id", Long.class),
+                    row.get("project_id", Long.class),
+                    row.get("user_id", Long.class),
+                    row.get("name", String.class),
+                    Role.valueOf(row.get("project_role", String.class)),
+                    joinMethod != null ? ProjectMember.JoinMethod.valueOf(joinMethod) : null,
+                    row.get("joined_at", LocalDateTime.class));
+            })
+            .all();
+    }
+
+    private static UserSummary userSummary(Readable row) {
+        return new UserSummary(
+            row.get("id", Long.class),
+            row.get("email", String.class),
+            row.get("name", String.class),
+            row.get("avatar_url", String.class),
+            Role.valueOf(row.get("role", String.class)),
+            row.get("oauth_provider", String.class),
+            row.get("oauth_username", String.class),
+            row.get("is_active", Boolean.class),
+            row.get("created_at", LocalDateTime.class));
+    }
+}
@@ -1,17 +1,25 @@
 package com.app.echoboard.repository;
 
+import com.app.echoboard.dto.MembershipKey;
+import com.app.echoboard.dto.MentionCandidate;
+import com.app.echoboard.dto.ProjectMemberExportRow;
 import com.app.echoboard.model.Project;
 import com.app.echoboard.model.ProjectMember;
 import com.app.echoboard.model.Role;
 import com.app.echoboard.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Project member relationship data access interface
@@ -31,11 +39,14 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
 
     /**
      * Find member relationship by project ID and user ID
+     * Compares the foreign key columns directly (the derived query left-joins projects and users,
+     * which keeps the (project_id, user_id) unique index from being used)
      * @param projectId project ID
      * @param userId user ID
      * @return member relationship (may be null)
      */
-    Optional<ProjectMember> findByProjectIdAndUserId(Long projectId, Long userId);
+    @Query("SELECT pm FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.user.id = :userId")
+    Optional<ProjectMember> findByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
 
     /**
      * Check if user is a project member
@@ -53,6 +64,35 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
      */
     boolean existsByProjectIdAndUserId(Long projectId, Long userId);
 
+    /**
+     * Find the user IDs of the active members of a project
+     * @param projectId project ID
+     * @return active member user IDs
+     */
+    @Query("SELECT pm.user.id FROM ProjectMember pm " +
+           "WHERE pm.project.id = :projectId " +
+           "AND pm.status = 'ACTIVE'")
+    List<Long> findActiveUserIdsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Find (project, user, role) of the active members of a project
+     * @param projectId project ID
+     * @return active membership keys
+     */
+    @Query("SELECT new com.app.echoboard.dto.MembershipKey(pm.project.id, pm.user.id, pm.projectRole) " +
+           "FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.status = 'ACTIVE'")
+    List<MembershipKey> findActiveMembershipKeysByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Find the IDs of the projects a user is an active member of
+     * @param userId user ID
+     * @return project IDs
+     */
+    @Query("SELECT pm.project.id FROM ProjectMember pm " +
+           "WHERE pm.user.id = :userId " +
+           "AND pm.status = 'ACTIVE'")
+    List<Long> findActiveProjectIdsByUserId(@Param("userId") Long userId);
+
     /**
      * Find all members by project
      * @param project project
@@ -95,6 +135,7 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
      * @param status member status
      * @return matching member list
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ProjectMember> findByProjectIdAndStatus(Long projectId, ProjectMember.MemberStatus status);
 
     /**
@@ -137,6 +178,7 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
      * @param projectRole project role
      * @return member list of this role
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ProjectMember> findByProjectIdAndProjectRole(Long projectId, Role projectRole);
 
     /**
@@ -170,6 +212,54 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
      */
     List<ProjectMember> findByJoinedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Stream all member relationships as flat export rows (ordered by ID)
+     * Must be consumed inside a transaction and closed after use
+     * @return export row stream
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.app.echoboard.dto.ProjectMemberExportRow(" +
+           "pm.id, pm.project.id, pm.user.id, pm.projectRole, pm.status, pm.joinMethod, inv.id, pm.joinedAt, pm.leftAt) " +
+           "FROM ProjectMember pm LEFT JOIN pm.invitedBy inv " +
+           "ORDER BY pm.id")
+    Stream<ProjectMemberExportRow> streamAllExportRows();
+
+    /**
+     * Stream (project, user, role) of every active member relationship
+     * Used to build in-memory membership indexes; must be consumed inside a transaction
+     * @return membership key stream
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.app.echoboard.dto.MembershipKey(pm.project.id, pm.user.id, pm.projectRole) " +
+           "FROM ProjectMember pm WHERE pm.status = 'ACTIVE'")
+    Stream<MembershipKey> streamActiveMembershipKeys();
+
+    /**
+     * Stream (project, user name, OAuth username) of every active member who is an active user
+     * Used to build the mention typeahead index; must be consumed inside a transaction
+     * @return mention candidate stream
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.app.echoboard.dto.MentionCandidate(pm.project.id, u.id, u.name, u.oauthUsername) " +
+           "FROM ProjectMember pm JOIN pm.user u WHERE pm.status = 'ACTIVE' AND u.isActive = true")
+    Stream<MentionCandidate> streamActiveMentionCandidates();
+
+    /**
+     * Stream member relationships joined in a time range as flat export rows (ordered by ID)
+     * Must be consumed inside a transaction and closed after use
+     * @param startDate start date
+     * @param endDate end date
+     * @return export row stream
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.app.echoboard.dto.ProjectMemberExportRow(" +
+           "pm.id, pm.project.id, pm.user.id, pm.projectRole, pm.status, pm.joinMethod, inv.id, pm.joinedAt, pm.leftAt) " +
+           "FROM ProjectMember pm LEFT JOIN pm.invitedBy inv " +
+           "WHERE pm.joinedAt BETWEEN :startDate AND :endDate " +
+           "ORDER BY pm.id")
+    Stream<ProjectMemberExportRow> streamExportRowsByJoinedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                                     @Param("endDate") LocalDateTime endDate);
+
     /**
      * Count members by project
      * @param project project
@@ -271,8 +361,10 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
 
     /**
      * Custom query: delete all member relationships in a project (soft delete)
+     * Bypasses entity listeners; use ProjectMembershipService.deactivateAll to keep counters in step
      * @param projectId project ID
      */
+    @Modifying
     @Query("UPDATE ProjectMember pm SET pm.status = 'LEFT', pm.leftAt = CURRENT_TIMESTAMP " +
            "WHERE pm.project.id = :projectId AND pm.status = 'ACTIVE'")
     void deactivateAllProjectMembers(@Param("projectId") Long projectId);
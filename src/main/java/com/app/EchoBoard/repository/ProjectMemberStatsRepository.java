@@ -0,0 +1,13 @@
+package com.app.echoboard.repository;
+
+import com.app.echoboard.model.ProjectMemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Project member aggregate data access interface
+ * Rows are written only by ProjectMembershipService / ProjectService
+ */
+@Repository
+public interface ProjectMemberStatsRepository extends JpaRepository<ProjectMemberStats, Long> {
+}
@@ -2,14 +2,21 @@ package com.app.echoboard.repository;
 
 import com.app.echoboard.model.Project;
 import com.app.echoboard.model.User;
+import com.app.echoboard.search.SearchDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 项目数据访问接口
@@ -19,6 +26,16 @@ import java.util.Optional;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    /**
+     * 根据ID查找项目并加行锁（SELECT ... FOR UPDATE）
+     * 成员变更时使用，保证成员计数和容量检查的一致性
+     * @param id 项目ID
+     * @return 项目信息（可能为空）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * 根据项目名称查找项目
      * @param name 项目名称
@@ -49,16 +66,19 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     /**
      * 根据创建者ID查找项目列表
+     * 直接比较外键列（派生查询会左连接 users，导致无法使用 created_by 索引）
      * @param createdById 项目创建者ID
      * @return 该用户创建的项目列表
      */
-    List<Project> findByCreatedById(Long createdById);
+    @Query("SELECT p FROM Project p WHERE p.createdBy.id = :createdById")
+    List<Project> findByCreatedById(@Param("createdById") Long createdById);
 
     /**
      * 根据项目状态查找项目列表
      * @param status 项目状态
      * @return 该状态的项目列表
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Project> findByStatus(Project.ProjectStatus status);
 
     /**
@@ -83,6 +103,14 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      */
     List<Project> findByDescriptionContainingIgnoreCase(String description);
 
+    /**
+     * 流式读取所有项目的可搜索文本（JDBC游标，需在事务中消费并关闭）
+     * @return 搜索文档流
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.app.echoboard.search.SearchDocument(p.id, p.name, p.description) FROM Project p")
+    Stream<SearchDocument> streamSearchDocuments();
+
     /**
      * 根据是否公开查找项目
      * @param isPublic 是否公开
@@ -94,6 +122,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * 查找公开的活跃项目
      * @return 公开活跃项目列表
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Project> findByIsPublicTrueAndStatus(Project.ProjectStatus status);
 
     /**
@@ -145,6 +174,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * @param status 项目状态
      * @return 项目数量
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countByStatus(Project.ProjectStatus status);
 
     /**
@@ -176,19 +206,20 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     /**
      * 自定义查询：查找成员数量超过指定数量的项目
+     * 基于 projects.active_member_count 索引的范围扫描
      * @param memberCount 成员数量阈值
      * @return 符合条件的项目列表
      */
-    @Query("SELECT p FROM Project p WHERE " +
-           "(SELECT COUNT(pm) FROM ProjectMember pm WHERE pm.project = p AND pm.status = 'ACTIVE') > :memberCount")
+    @Query("SELECT p FROM Project p WHERE p.activeMemberCount > :memberCount")
     List<Project> findProjectsWithMoreThanMembers(@Param("memberCount") int memberCount);
 
     /**
      * 自定义查询：查找可以添加更多成员的项目
+     * 基于成员聚合表 spare_capacity 索引的范围扫描（每个项目都有聚合行，由 ProjectService 随项目创建，缺失时由 ProjectMembershipService 补建）
      * @return 可以添加成员的项目列表
      */
-    @Query("SELECT p FROM Project p WHERE " +
-           "(SELECT COUNT(pm) FROM ProjectMember pm WHERE pm.project = p AND pm.status = 'ACTIVE') < p.maxMembers " +
+    @Query("SELECT p FROM ProjectMemberStats s JOIN Project p ON p.id = s.projectId " +
+           "WHERE s.spareCapacity > 0 " +
            "AND p.status = 'ACTIVE'")
     List<Project> findProjectsCanAddMoreMembers();
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.app.echoboard.repository;
+
+import com.app.echoboard.dto.FeedCursor;
+import com.app.echoboard.dto.FeedItem;
+import com.app.echoboard.model.UserFeedEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * User feed data access interface
+ * Feeds are ordered by (occurred_at, id); every query seeks on the (user_id, occurred_at, id) index
+ */
+@Repository
+public interface UserFeedEntryRepository extends JpaRepository<UserFeedEntry, Long> {
+
+    /**
+     * First page of a user's feed (newest first)
+     * @param userId feed owner
+     * @param limit page size
+     * @return newest feed items
+     */
+    List<FeedItem> findByUserIdOrderByOccurredAtDescIdDesc(Long userId, Limit limit);
+
+    /**
+     * Keyset page of a user's feed (newest first)
+     * @param userId feed owner
+     * @param occurredAt occurrence time of the last item of the previous page
+     * @param id ID of the last item of the previous page
+     * @param limit page size
+     * @return feed items older than the given position
+     */
+    @Query("SELECT new com.app.echoboard.dto.FeedItem(e.id, e.type, e.projectId, e.projectName, " +
+           "e.subjectUserId, e.subjectUserName, e.detail, e.occurredAt) " +
+           "FROM UserFeedEntry e WHERE e.userId = :userId AND e.occurredAt <= :occurredAt " +
+           "AND (e.occurredAt < :occurredAt OR e.id < :id) " +
+           "ORDER BY e.occurredAt DESC, e.id DESC")
+    List<FeedItem> findPageBefore(@Param("userId") Long userId, @Param("occurredAt") LocalDateTime occurredAt,
+                                  @Param("id") Long id, Limit limit);
+
+    /**
+     * Entry positions of a user's feed, newest first
+     * @param pageable offset/size window (no count query is run)
+     * @return entry positions in the window
+     */
+    @Query("SELECT new com.app.echoboard.dto.FeedCursor(e.occurredAt, e.id) FROM UserFeedEntry e " +
+           "WHERE e.userId = :userId ORDER BY e.occurredAt DESC, e.id DESC")
+    List<FeedCursor> findPositionsNewestFirst(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Delete a user's entries at or before a position
+     * @return number of deleted entries
+     */
+    @Modifying
+    @Query("DELETE FROM UserFeedEntry e WHERE e.userId = :userId AND e.occurredAt <= :occurredAt " +
+           "AND (e.occurredAt < :occurredAt OR e.id <= :id)")
+    int deleteByUserIdUpTo(@Param("userId") Long userId, @Param("occurredAt") LocalDateTime occurredAt, @Param("id") Long id);
+}
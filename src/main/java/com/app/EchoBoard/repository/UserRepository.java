@@ -1,14 +1,22 @@
 package com.app.echoboard.repository;
 
+import com.app.echoboard.dto.UserVersion;
 import com.app.echoboard.model.Role;
 import com.app.echoboard.model.User;
+import com.app.echoboard.search.SearchDocument;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * User data access interface
@@ -25,6 +33,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Find the version (ID + last modification time) of a user by ID, for conditional GETs
+     * @param id user ID
+     * @return user version (may be null)
+     */
+    @Query("SELECT new com.app.echoboard.dto.UserVersion(u.id, COALESCE(u.updatedAt, u.createdAt)) " +
+           "FROM User u WHERE u.id = :id")
+    Optional<UserVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Find the version (ID + last modification time) of a user by email, for conditional GETs
+     * @param email user email
+     * @return user version (may be null)
+     */
+    @Query("SELECT new com.app.echoboard.dto.UserVersion(u.id, COALESCE(u.updatedAt, u.createdAt)) " +
+           "FROM User u WHERE u.email = :email")
+    Optional<UserVersion> findVersionByEmail(@Param("email") String email);
+
     /**
      * Find user by email (case-insensitive)
      * @param email user email
@@ -39,19 +65,88 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Find which of the given emails are already registered
+     * @param emails candidate emails (callers should chunk large lists)
+     * @return emails that exist
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     /**
      * Find user list by user role
      * @param role user role
      * @return user list of this role
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByRole(Role role);
 
     /**
      * Find active user list
      * @return active user list
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByIsActiveTrue();
 
+    /**
+     * Keyset page over all users (ordered by ID)
+     * Seeks on the primary key, so deep pages cost the same as the first one
+     * @param afterId last ID of the previous page (0 for the first page)
+     * @param limit page size
+     * @param type result type (User or a projection such as UserSummary)
+     * @return users with ID greater than afterId
+     */
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit, Class<T> type);
+
+    /**
+     * Keyset page over users of a role (ordered by ID)
+     * @param role user role
+     * @param afterId last ID of the previous page (0 for the first page)
+     * @param limit page size
+     * @param type result type (User or a projection such as UserSummary)
+     * @return users of this role with ID greater than afterId
+     */
+    <T> List<T> findByRoleAndIdGreaterThanOrderByIdAsc(Role role, Long afterId, Limit limit, Class<T> type);
+
+    /**
+     * Keyset page over active users (ordered by ID)
+     * @param afterId last ID of the previous page (0 for the first page)
+     * @param limit page size
+     * @param type result type (User or a projection such as UserSummary)
+     * @return active users with ID greater than afterId
+     */
+    <T> List<T> findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit, Class<T> type);
+
+    /**
+     * Stream all users through a JDBC cursor (ordered by ID)
+     * Must be consumed inside a transaction and closed after use
+     * @return user stream
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    Stream<User> streamAll();
+
+    /**
+     * Stream all registered emails through a JDBC cursor
+     * Must be consumed inside a transaction and closed after use
+     * @return email stream
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    /**
+     * Stream the searchable text of all active users through a JDBC cursor
+     * Must be consumed inside a transaction and closed after use
+     * @return search document stream
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.app.echoboard.search.SearchDocument(u.id, u.name) FROM User u WHERE u.isActive = true")
+    Stream<SearchDocument> streamSearchDocuments();
+
     /**
      * Find user by OAuth provider and OAuth ID
      * @param oauthProvider OAuth provider (e.g., "github", "google")
@@ -80,6 +175,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param isActive whether active
      * @return matching user list
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByRoleAndIsActive(Role role, Boolean isActive);
 
     /**
@@ -87,12 +183,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param role user role
      * @return user count
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countByRole(Role role);
 
     /**
      * Count active users
      * @return active user count
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countByIsActiveTrue();
 
     /**
@@ -0,0 +1,243 @@
+package com.app.echoboard.search;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process search index (default backend)
+ * Inverted trigram index: each trigram of a field maps to a compressed bitmap of document IDs.
+ * A query intersects the bitmaps of its own trigrams, then verifies and ranks the candidates
+ * against the stored text, so only documents sharing every query trigram are ever looked at
+ */
+@Component
+@ConditionalOnProperty(name = "echoboard.search.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemorySearchIndex implements SearchIndex {
+
+    private static final Comparator<Ranked> BY_RANK =
+        Comparator.comparingDouble(Ranked::score).thenComparing(Ranked::id, Comparator.reverseOrder());
+
+    private final Map<SearchType, Segment> segments = new EnumMap<>(SearchType.class);
+
+    public InMemorySearchIndex() {
+        for (SearchType type : SearchType.values()) {
+            segments.put(type, new Segment());
+        }
+    }
+
+    @Override
+    public boolean isInProcess() {
+        return true;
+    }
+
+    @Override
+    public void put(SearchType type, SearchDocument document) {
+        segments.get(type).put(document);
+    }
+
+    @Override
+    public void remove(SearchType type, long id) {
+        segments.get(type).remove(id);
+    }
+
+    @Override
+    public SearchResults search(SearchType type, String query, int page, int size) {
+        String normalized = SearchText.normalize(query);
+        if (!SearchText.isSearchable(normalized)) {
+            return SearchResults.empty(page, size);
+        }
+        return segments.get(type).search(normalized, page, size);
+    }
+
+    @Override
+    public long size(SearchType type) {
+        return segments.get(type).size();
+    }
+
+    /**
+     * Trigrams of normalized text, padded with one space on each side so word starts are indexed
+     */
+    static long[] indexGrams(String text) {
+        return grams(" " + text + " ");
+    }
+
+    /**
+     * Trigrams every matching document must contain
+     */
+    static long[] queryGrams(String query) {
+        return query.length() > SearchText.MIN_QUERY_LENGTH ? grams(query) : grams(" " + query);
+    }
+
+    // Three UTF-16 chars packed into one long
+    private static long[] grams(String s) {
+        if (s.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[s.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+        }
+        return grams;
+    }
+
+    private record Entry(String title, String normalizedTitle, String normalizedBody) {}
+
+    private record Ranked(long id, double score) {}
+
+    /**
+     * Index of one document type; a single read-write lock keeps postings and stored text consistent
+     */
+    private static final class Segment {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Entry> documents = new HashMap<>();
+        private final Map<Long, Roaring64Bitmap> titlePostings = new HashMap<>();
+        private final Map<Long, Roaring64Bitmap> bodyPostings = new HashMap<>();
+
+        void put(SearchDocument document) {
+            Entry entry = new Entry(document.title(),
+                SearchText.normalize(document.title()), SearchText.normalize(document.body()));
+            long id = document.id();
+
+            lock.writeLock().lock();
+            try {
+                Entry previous = documents.put(id, entry);
+                if (previous != null) {
+                    if (previous.normalizedTitle().equals(entry.normalizedTitle())
+                            && previous.normalizedBody().equals(entry.normalizedBody())) {
+                        return; // only the display title can have changed
+                    }
+                    unpost(titlePostings, previous.normalizedTitle(), id);
+                    unpost(bodyPostings, previous.normalizedBody(), id);
+                }
+                post(titlePostings, entry.normalizedTitle(), id);
+                post(bodyPostings, entry.normalizedBody(), id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long id) {
+            lock.writeLock().lock();
+            try {
+                Entry previous = documents.remove(id);
+                if (previous != null) {
+                    unpost(titlePostings, previous.normalizedTitle(), id);
+                    unpost(bodyPostings, previous.normalizedBody(), id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        SearchResults search(String query, int page, int size) {
+            long[] grams = queryGrams(query);
+            int window = (page + 1) * size;
+            PriorityQueue<Ranked> top = new PriorityQueue<>(window + 1, BY_RANK);
+            long total = 0;
+
+            lock.readLock().lock();
+            try {
+                Roaring64Bitmap candidates = intersect(titlePostings, grams);
+                Roaring64Bitmap bodyCandidates = intersect(bodyPostings, grams);
+                if (candidates == null) {
+                    candidates = bodyCandidates;
+                } else if (bodyCandidates != null) {
+                    candidates.or(bodyCandidates);
+                }
+                if (candidates == null) {
+                    return SearchResults.empty(page, size);
+                }
+
+                LongIterator it = candidates.getLongIterator();
+                while (it.hasNext()) {
+                    long id = it.next();
+                    Entry entry = documents.get(id);
+                    double score = SearchText.score(entry.normalizedTitle(), query, SearchText.TITLE_WEIGHT)
+                        + SearchText.score(entry.normalizedBody(), query, SearchText.BODY_WEIGHT);
+                    if (score == 0) {
+                        continue; // shares every trigram but not the substring
+                    }
+                    total++;
+                    top.add(new Ranked(id, score));
+                    if (top.size() > window) {
+                        top.poll();
+                    }
+                }
+
+                List<Ranked> ranked = new ArrayList<>(top);
+                ranked.sort(BY_RANK.reversed());
+                List<SearchHit> hits = new ArrayList<>(size);
+                for (int i = page * size; i < ranked.size(); i++) {
+                    Ranked r = ranked.get(i);
+                    hits.add(new SearchHit(r.id(), documents.get(r.id()).title(), r.score()));
+                }
+                return new SearchResults(hits, total, page, size);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long size() {
+            lock.readLock().lock();
+            try {
+                return documents.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Intersection of the postings of all grams, smallest first
+         * @return a fresh bitmap, or null if some gram has no postings
+         */
+        private static Roaring64Bitmap intersect(Map<Long, Roaring64Bitmap> postings, long[] grams) {
+            List<Roaring64Bitmap> lists = new ArrayList<>(grams.length);
+            for (long gram : grams) {
+                Roaring64Bitmap list = postings.get(gram);
+                if (list == null) {
+                    return null;
+                }
+                lists.add(list);
+            }
+            if (lists.isEmpty()) {
+                return null;
+            }
+            lists.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+            Roaring64Bitmap result = new Roaring64Bitmap();
+            result.or(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.and(lists.get(i));
+            }
+            return result;
+        }
+
+        private static void post(Map<Long, Roaring64Bitmap> postings, String text, long id) {
+            for (long gram : indexGrams(text)) {
+                postings.computeIfAbsent(gram, g -> new Roaring64Bitmap()).addLong(id);
+            }
+        }
+
+        private static void unpost(Map<Long, Roaring64Bitmap> postings, String text, long id) {
+            for (long gram : indexGrams(text)) {
+                Roaring64Bitmap list = postings.get(gram);
+                if (list != null) {
+                    list.removeLong(id);
+                    if (list.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.app.echoboard.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL search backend (echoboard.search.backend=postgres)
+ * ILIKE filters answered by pg_trgm GIN indexes (migration V4), ranked by trigram similarity.
+ * The database keeps the indexes current on write, so put/remove are no-ops
+ */
+@Component
+@ConditionalOnProperty(name = "echoboard.search.backend", havingValue = "postgres")
+public class PostgresSearchIndex implements SearchIndex {
+
+    private static final String PROJECT_SQL =
+        "SELECT id, name AS title, " +
+        "2 * similarity(name, :q) + similarity(coalesce(description, ''), :q) AS score, " +
+        "count(*) OVER () AS total " +
+        "FROM projects WHERE %s " +
+        "ORDER BY score DESC, id LIMIT :limit OFFSET :offset";
+
+    private static final String USER_SQL =
+        "SELECT id, name AS title, similarity(name, :q) AS score, count(*) OVER () AS total " +
+        "FROM users WHERE is_active AND (%s) " +
+        "ORDER BY score DESC, id LIMIT :limit OFFSET :offset";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean isInProcess() {
+        return false;
+    }
+
+    @Override
+    public void put(SearchType type, SearchDocument document) {
+    }
+
+    @Override
+    public void remove(SearchType type, long id) {
+    }
+
+    @Override
+    public SearchResults search(SearchType type, String query, int page, int size) {
+        String normalized = SearchText.normalize(query);
+        if (!SearchText.isSearchable(normalized)) {
+            return SearchResults.empty(page, size);
+        }
+
+        String escaped = normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("q", normalized)
+            .addValue("limit", size)
+            .addValue("offset", (long) page * size);
+
+        String sql;
+        if (type == SearchType.PROJECT) {
+            sql = String.format(PROJECT_SQL, filter(params, escaped, "name") + " OR " + filter(params, escaped, "description"));
+        } else {
+            sql = String.format(USER_SQL, filter(params, escaped, "name"));
+        }
+
+        long[] total = {0};
+        List<SearchHit> hits = new ArrayList<>(size);
+        jdbcTemplate.query(sql, params, rs -> {
+            total[0] = rs.getLong("total");
+            hits.add(new SearchHit(rs.getLong("id"), rs.getString("title"), rs.getDouble("score")));
+        });
+        return new SearchResults(hits, total[0], page, size);
+    }
+
+    @Override
+    public long size(SearchType type) {
+        return -1;
+    }
+
+    /**
+     * Same match rules as the in-process index: substring for 3+ characters, word prefix for 2
+     */
+    private static String filter(MapSqlParameterSource params, String escaped, String column) {
+        if (escaped.length() > SearchText.MIN_QUERY_LENGTH) {
+            params.addValue("contains", "%" + escaped + "%");
+            return column + " ILIKE :contains";
+        }
+        params.addValue("prefix", escaped + "%");
+        params.addValue("wordPrefix", "% " + escaped + "%");
+        return "(" + column + " ILIKE :prefix OR " + column + " ILIKE :wordPrefix)";
+    }
+}
@@ -0,0 +1,13 @@
+package com.app.echoboard.search;
+
+/**
+ * Searchable text of one entity
+ * @param title primary field, ranked above body matches
+ * @param body secondary field, may be null
+ */
+public record SearchDocument(Long id, String title, String body) {
+
+    public SearchDocument(Long id, String title) {
+        this(id, title, null);
+    }
+}
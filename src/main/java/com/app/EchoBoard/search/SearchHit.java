@@ -0,0 +1,7 @@
+package com.app.echoboard.search;
+
+/**
+ * One ranked search result (higher score first)
+ */
+public record SearchHit(Long id, String title, double score) {
+}
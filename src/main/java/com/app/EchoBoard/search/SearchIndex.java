@@ -0,0 +1,37 @@
+package com.app.echoboard.search;
+
+/**
+ * Search backend
+ * Substring search over document title and body, ranked title-first
+ * Queries of 3+ characters match anywhere in the text (same answers as LIKE '%q%');
+ * 2-character queries match word prefixes only
+ */
+public interface SearchIndex {
+
+    // Shortest query accepted (after trimming)
+    int MIN_QUERY_LENGTH = 2;
+
+    /**
+     * Whether this index lives in the application and must be fed documents
+     * (false when the database maintains it on write)
+     */
+    boolean isInProcess();
+
+    /**
+     * Insert or replace a document
+     */
+    void put(SearchType type, SearchDocument document);
+
+    void remove(SearchType type, long id);
+
+    /**
+     * @param page zero-based page number
+     * @param size page size
+     */
+    SearchResults search(SearchType type, String query, int page, int size);
+
+    /**
+     * Number of indexed documents, -1 if unknown
+     */
+    long size(SearchType type);
+}
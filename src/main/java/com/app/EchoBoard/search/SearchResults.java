@@ -0,0 +1,14 @@
+package com.app.echoboard.search;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results
+ * @param total number of matching documents
+ */
+public record SearchResults(List<SearchHit> hits, long total, int page, int size) {
+
+    public static SearchResults empty(int page, int size) {
+        return new SearchResults(List.of(), 0, page, size);
+    }
+}
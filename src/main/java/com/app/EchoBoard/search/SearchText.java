@@ -0,0 +1,83 @@
+package com.app.echoboard.search;
+
+import java.util.Locale;
+
+/**
+ * Text normalization and ranking shared by the search backends
+ */
+final class SearchText {
+
+    // 2-character queries are word-prefix matches
+    static final int MIN_QUERY_LENGTH = SearchIndex.MIN_QUERY_LENGTH;
+
+    // A title match outranks a body match of the same quality
+    static final double TITLE_WEIGHT = 2.0;
+    static final double BODY_WEIGHT = 1.0;
+
+    private SearchText() {}
+
+    /**
+     * Lower-case, trim and collapse whitespace runs to a single space
+     * @return normalized text, empty string for null
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else {
+                if (space) {
+                    sb.append(' ');
+                    space = false;
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether a normalized query is long enough to run
+     */
+    static boolean isSearchable(String query) {
+        return query.length() >= MIN_QUERY_LENGTH;
+    }
+
+    /**
+     * Whether normalized text matches a normalized query
+     */
+    static boolean matches(String text, String query) {
+        if (query.length() > MIN_QUERY_LENGTH) {
+            return text.contains(query);
+        }
+        return text.startsWith(query) || text.contains(" " + query);
+    }
+
+    /**
+     * Score of one field: leading matches beat word-prefix matches beat infix matches,
+     * and the more of the field the query covers the better
+     * @return 0 when the field does not match
+     */
+    static double score(String text, String query, double weight) {
+        if (!matches(text, query)) {
+            return 0;
+        }
+        int at = text.indexOf(query);
+        while (query.length() <= MIN_QUERY_LENGTH && at > 0 && text.charAt(at - 1) != ' ') {
+            at = text.indexOf(query, at + 1);
+        }
+        double score = 1.0;
+        if (at == 0) {
+            score += 0.5;
+        } else if (text.charAt(at - 1) == ' ') {
+            score += 0.25;
+        }
+        score += (double) query.length() / text.length();
+        return score * weight;
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.echoboard.search;
+
+/**
+ * Kinds of searchable documents
+ */
+public enum SearchType {
+    PROJECT, // title = project name, body = description
+    USER     // title = user name
+}
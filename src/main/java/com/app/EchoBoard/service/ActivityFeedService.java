@@ -0,0 +1,122 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.dto.FeedCursor;
+import com.app.echoboard.dto.FeedItem;
+import com.app.echoboard.feed.FeedProperties;
+import com.app.echoboard.model.OutboxEvent;
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.User;
+import com.app.echoboard.model.UserFeedEntry;
+import com.app.echoboard.repository.OutboxEventRepository;
+import com.app.echoboard.repository.ProjectMemberRepository;
+import com.app.echoboard.repository.ProjectRepository;
+import com.app.echoboard.repository.UserFeedEntryRepository;
+import com.app.echoboard.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Activity Feed Service - per-user "what changed in my projects" feed
+ * Outbox events are fanned out at write time into one capped list per user, so reading a feed
+ * never joins memberships or projects
+ */
+@Service
+@Transactional
+public class ActivityFeedService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserFeedEntryRepository userFeedEntryRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedProperties properties;
+
+    /**
+     * Fan out one batch of pending outbox events
+     * Recipients are the project's active members at dispatch time plus the member the event is about
+     * (so a member who left still sees it). Feed entries are inserted and the events deleted in one
+     * transaction, so a failed batch is retried as a whole
+     * @return number of events dispatched
+     */
+    public int dispatchPending() {
+        List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(Limit.of(properties.getBatchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // Looked up once per batch
+        Map<Long, List<Long>> membersByProject = new HashMap<>();
+        Map<Long, String> projectNames = new HashMap<>();
+        Map<Long, String> userNames = new HashMap<>();
+
+        List<UserFeedEntry> entries = new ArrayList<>();
+        Set<Long> recipients = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            Set<Long> eventRecipients = new LinkedHashSet<>(
+                membersByProject.computeIfAbsent(event.getProjectId(), projectMemberRepository::findActiveUserIdsByProjectId));
+            if (event.getSubjectUserId() != null) {
+                eventRecipients.add(event.getSubjectUserId());
+            }
+            String projectName = projectNames.computeIfAbsent(event.getProjectId(),
+                id -> projectRepository.findById(id).map(Project::getName).orElse(null));
+            String subjectName = event.getSubjectUserId() == null ? null : userNames.computeIfAbsent(event.getSubjectUserId(),
+                id -> userRepository.findById(id).map(User::getName).orElse(null));
+
+            for (Long userId : eventRecipients) {
+                entries.add(new UserFeedEntry(userId, event, projectName, subjectName));
+            }
+            recipients.addAll(eventRecipients);
+        }
+
+        userFeedEntryRepository.saveAll(entries);
+        outboxEventRepository.deleteAllInBatch(events);
+        recipients.forEach(this::trim);
+        return events.size();
+    }
+
+    /**
+     * One page of a user's feed, newest first (by occurrence time)
+     * @param before last item of the previous page (null for the first page)
+     * @param limit page size
+     */
+    @Transactional(readOnly = true)
+    public List<FeedItem> feed(Long userId, FeedCursor before, int limit) {
+        if (before == null) {
+            return userFeedEntryRepository.findByUserIdOrderByOccurredAtDescIdDesc(userId, Limit.of(limit));
+        }
+        return userFeedEntryRepository.findPageBefore(userId, before.occurredAt(), before.id(), Limit.of(limit));
+    }
+
+    /**
+     * Drop a user's entries beyond the newest max-entries
+     */
+    private void trim(Long userId) {
+        List<FeedCursor> firstDropped = userFeedEntryRepository.findPositionsNewestFirst(userId,
+            PageRequest.of(properties.getMaxEntries(), 1));
+        if (!firstDropped.isEmpty()) {
+            FeedCursor position = firstDropped.get(0);
+            userFeedEntryRepository.deleteByUserIdUpTo(userId, position.occurredAt(), position.id());
+        }
+    }
+}
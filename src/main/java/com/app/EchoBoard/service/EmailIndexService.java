@@ -0,0 +1,132 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.index.EmailBloomFilter;
+import com.app.echoboard.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Email Index Service - registration fast path
+ * Keeps an in-process Bloom filter of registered emails so most new sign-ups skip the
+ * existsByEmail lookup. The users.email unique constraint stays the final authority.
+ */
+@Service
+public class EmailIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailIndexService.class);
+
+    @Value("${echoboard.registration.email-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${echoboard.registration.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private EmailBloomFilter filter;
+    private volatile boolean ready;
+
+    private Counter negativeCounter;
+    private Counter positiveCounter;
+    private Counter falsePositiveCounter;
+
+    @PostConstruct
+    void init() {
+        filter = new EmailBloomFilter(expectedInsertions, falsePositiveRate);
+
+        Gauge.builder("echoboard.email.filter.memory", filter, EmailBloomFilter::getMemoryBytes)
+            .description("Memory used by the registration email Bloom filter")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("echoboard.email.filter.entries", filter, EmailBloomFilter::getInsertions)
+            .description("Emails added to the registration email Bloom filter")
+            .register(meterRegistry);
+        Gauge.builder("echoboard.email.filter.expected.fpp", filter, EmailBloomFilter::expectedFalsePositiveRate)
+            .description("Expected false-positive rate for the current fill level")
+            .register(meterRegistry);
+        Gauge.builder("echoboard.email.filter.observed.fpp", this, EmailIndexService::observedFalsePositiveRate)
+            .description("Share of filter hits that the database lookup did not confirm")
+            .register(meterRegistry);
+
+        negativeCounter = Counter.builder("echoboard.email.filter.checks")
+            .tag("result", "negative")
+            .description("Filter checks that skipped the database lookup")
+            .register(meterRegistry);
+        positiveCounter = Counter.builder("echoboard.email.filter.checks")
+            .tag("result", "positive")
+            .description("Filter checks that fell through to the database lookup")
+            .register(meterRegistry);
+        falsePositiveCounter = Counter.builder("echoboard.email.filter.false.positives")
+            .description("Filter hits for emails that were not registered")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Load every registered email into the filter
+     * Emails saved while warming up are added by registered(), so nothing is missed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                emails.forEach(filter::put);
+            }
+        });
+        ready = true;
+        log.info("Email filter warmed up with {} emails in {} ms ({} bytes, {} hash functions)",
+            filter.getInsertions(), System.currentTimeMillis() - start, filter.getMemoryBytes(), filter.getNumHashFunctions());
+    }
+
+    /**
+     * Check whether an email is already registered
+     * A filter miss answers without touching the database
+     */
+    public boolean isRegistered(String email) {
+        if (!ready) {
+            return userRepository.existsByEmail(email);
+        }
+        if (!filter.mightContain(email)) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        positiveCounter.increment();
+        boolean exists = userRepository.existsByEmail(email);
+        if (!exists) {
+            falsePositiveCounter.increment();
+        }
+        return exists;
+    }
+
+    /**
+     * Record a successfully saved email
+     */
+    public void registered(String email) {
+        filter.put(email);
+    }
+
+    private double observedFalsePositiveRate() {
+        double checks = negativeCounter.count() + positiveCounter.count();
+        return checks == 0 ? 0 : falsePositiveCounter.count() / checks;
+    }
+}
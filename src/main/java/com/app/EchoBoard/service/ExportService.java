@@ -0,0 +1,94 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.dto.ProjectMemberExportRow;
+import com.app.echoboard.dto.UserExportRow;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.ProjectMemberRepository;
+import com.app.echoboard.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Export Service - constant-memory NDJSON dumps
+ * Rows are read through a JDBC cursor and written one line at a time,
+ * so heap use does not depend on table size
+ */
+@Service
+public class ExportService {
+
+    // Flush the response every N lines so the client sees steady progress
+    private static final int FLUSH_EVERY = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Write every user as one JSON line
+     * @param out response output stream
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(OutputStream out) throws IOException {
+        try (Stream<User> users = userRepository.streamAll()) {
+            // Detach each user once written so the persistence context stays empty
+            return writeNdjson(users, out, user -> entityManager.detach(user), UserExportRow::from);
+        }
+    }
+
+    /**
+     * Write project members as JSON lines, optionally limited to a join time range
+     * @param from joined at lower bound (null together with to for a full dump)
+     * @param to joined at upper bound (null together with from for a full dump)
+     * @param out response output stream
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportProjectMembers(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        Stream<ProjectMemberExportRow> rows = (from == null || to == null)
+            ? projectMemberRepository.streamAllExportRows()
+            : projectMemberRepository.streamExportRowsByJoinedAtBetween(from, to);
+        try (rows) {
+            return writeNdjson(rows, out, row -> { }, row -> row);
+        }
+    }
+
+    private <E> long writeNdjson(Stream<E> rows, OutputStream out, Consumer<E> afterWrite,
+                                 Function<E, ?> toLine) throws IOException {
+        ObjectWriter writer = objectMapper.writer();
+        long count = 0;
+        Iterator<E> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            E row = iterator.next();
+            out.write(writer.writeValueAsBytes(toLine.apply(row)));
+            out.write('\n');
+            afterWrite.accept(row);
+            if (++count % FLUSH_EVERY == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+        return count;
+    }
+}
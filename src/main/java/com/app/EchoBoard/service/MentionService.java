@@ -0,0 +1,177 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.dto.MentionCandidate;
+import com.app.echoboard.dto.MentionSuggestion;
+import com.app.echoboard.event.ProjectMemberChangedEvent;
+import com.app.echoboard.event.ProjectMembersDeactivatedEvent;
+import com.app.echoboard.event.UserChangedEvent;
+import com.app.echoboard.index.MentionIndex;
+import com.app.echoboard.repository.ProjectMemberRepository;
+import com.app.echoboard.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Mention Service - @-mention typeahead over project members
+ * Answers from an in-memory per-project prefix index built at startup and kept current by
+ * membership and user change events; lookups never touch the database once it is built, and
+ * user changes only do for an active user the index has not seen yet
+ */
+@Service
+public class MentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(MentionService.class);
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Null until the first build completes; lookups fall back to the database meanwhile
+    private volatile MentionIndex index;
+
+    // Changes committed while a rebuild is streaming, replayed onto the new index
+    private final Object rebuildLock = new Object();
+    private final Queue<Consumer<MentionIndex>> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("echoboard.mention.index.projects", this, s -> s.index != null ? s.index.projectCount() : 0)
+            .description("Projects with at least one mentionable member")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Build the index from active project members
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        MentionIndex fresh = new MentionIndex();
+        rebuilding = true;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<MentionCandidate> candidates = projectMemberRepository.streamActiveMentionCandidates()) {
+                candidates.forEach(candidate -> fresh.stage(candidate.projectId(), candidate.suggestion()));
+            }
+        });
+        fresh.publishAll();
+
+        synchronized (rebuildLock) {
+            Consumer<MentionIndex> change;
+            while ((change = pendingDuringRebuild.poll()) != null) {
+                change.accept(fresh);
+            }
+            index = fresh;
+            rebuilding = false;
+        }
+        log.info("Mention index built for {} projects in {} ms", fresh.projectCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Apply a committed membership change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectMemberChanged(ProjectMemberChangedEvent event) {
+        if (!event.isActiveMembership()) {
+            applyChange(target -> target.removeMember(event.projectId(), event.userId()));
+            return;
+        }
+        // The event carries no names; resolve them once here (usually a second-level cache hit)
+        userRepository.findById(event.userId())
+            .filter(user -> Boolean.TRUE.equals(user.getIsActive()))
+            .map(user -> new MentionSuggestion(user.getId(), user.getName(), user.getOauthUsername()))
+            .ifPresent(suggestion -> applyChange(target -> target.addMember(event.projectId(), suggestion)));
+    }
+
+    /**
+     * Drop every member of a project after a committed bulk deactivation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectMembersDeactivated(ProjectMembersDeactivatedEvent event) {
+        applyChange(target -> target.removeProject(event.projectId()));
+    }
+
+    /**
+     * Apply a committed rename, deactivation or reactivation of a user
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isVisible()) {
+            MentionSuggestion suggestion = new MentionSuggestion(event.userId(), event.name(), event.oauthUsername());
+            MentionIndex current = index;
+            if (event.created()) {
+                // A new account cannot be a member of any project yet
+                applyChange(target -> target.addUser(suggestion, List.of()));
+            } else if (current != null && !current.containsUser(event.userId())) {
+                // Not known to the index (reactivated, or not seen since startup): load its active memberships once
+                List<Long> projectIds = projectMemberRepository.findActiveProjectIdsByUserId(event.userId());
+                applyChange(target -> target.addUser(suggestion, projectIds));
+            } else {
+                applyChange(target -> target.updateUser(suggestion));
+            }
+        } else {
+            applyChange(target -> target.removeUser(event.userId()));
+        }
+    }
+
+    /**
+     * Members of a project matching a typed prefix
+     * @param prefix typed text after '@'
+     * @param limit maximum number of suggestions
+     */
+    public List<MentionSuggestion> suggest(Long projectId, String prefix, int limit) {
+        MentionIndex current = index;
+        if (current == null) {
+            return suggestFromDatabase(projectId, prefix, limit);
+        }
+        return current.lookup(projectId, prefix, limit);
+    }
+
+    private List<MentionSuggestion> suggestFromDatabase(Long projectId, String prefix, int limit) {
+        MentionIndex single = new MentionIndex();
+        userRepository.findActiveUsersByProjectId(projectId).stream()
+            .filter(user -> Boolean.TRUE.equals(user.getIsActive()))
+            .forEach(user -> single.stage(projectId,
+                new MentionSuggestion(user.getId(), user.getName(), user.getOauthUsername())));
+        single.publishAll();
+        return single.lookup(projectId, prefix, limit);
+    }
+
+    private void applyChange(Consumer<MentionIndex> change) {
+        if (rebuilding) {
+            synchronized (rebuildLock) {
+                if (rebuilding) {
+                    pendingDuringRebuild.add(change);
+                }
+            }
+        }
+        MentionIndex current = index;
+        if (current != null) {
+            change.accept(current);
+        }
+    }
+}
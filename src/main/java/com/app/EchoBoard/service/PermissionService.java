@@ -0,0 +1,152 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.dto.MembershipKey;
+import com.app.echoboard.event.ProjectMemberChangedEvent;
+import com.app.echoboard.event.ProjectMembersDeactivatedEvent;
+import com.app.echoboard.index.ProjectMembershipIndex;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Permission Service - project authorization checks
+ * Answers "is user U an active member of project P, and with what role" from an in-memory
+ * bitmap index built at startup and kept current by ProjectMemberChangedEvent
+ */
+@Service
+public class PermissionService {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionService.class);
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Null until the first build completes; checks fall back to the database meanwhile
+    private volatile ProjectMembershipIndex index;
+
+    // Changes committed while a rebuild is streaming, replayed onto the new index
+    private final Object rebuildLock = new Object();
+    private final Queue<Consumer<ProjectMembershipIndex>> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("echoboard.membership.index.memory", this, s -> s.index != null ? s.index.memoryBytes() : 0)
+            .description("Heap used by the project membership bitmaps")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("echoboard.membership.index.projects", this, s -> s.index != null ? s.index.projectCount() : 0)
+            .description("Projects with at least one indexed membership")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Build the index from project_members
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        ProjectMembershipIndex fresh = new ProjectMembershipIndex();
+        rebuilding = true;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<MembershipKey> keys = projectMemberRepository.streamActiveMembershipKeys()) {
+                keys.forEach(key -> fresh.apply(key.projectId(), key.userId(), key.projectRole()));
+            }
+        });
+
+        synchronized (rebuildLock) {
+            Consumer<ProjectMembershipIndex> change;
+            while ((change = pendingDuringRebuild.poll()) != null) {
+                change.accept(fresh);
+            }
+            index = fresh;
+            rebuilding = false;
+        }
+        log.info("Membership index built for {} projects in {} ms", fresh.projectCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Apply a committed membership change
+     * Runs before the other listeners, so BoardPushHub's re-check after a subscribe already sees a revocation
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectMemberChanged(ProjectMemberChangedEvent event) {
+        applyChange(target -> target.apply(event.projectId(), event.userId(),
+            event.isActiveMembership() ? event.projectRole() : null));
+    }
+
+    /**
+     * Drop every indexed membership of a project after a committed bulk deactivation
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectMembersDeactivated(ProjectMembersDeactivatedEvent event) {
+        applyChange(target -> target.removeProject(event.projectId()));
+    }
+
+    /**
+     * Active role of a user in a project
+     * @return role, or null if the user is not an active member
+     */
+    public Role activeRole(Long projectId, Long userId) {
+        ProjectMembershipIndex current = index;
+        if (current == null) {
+            return projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
+                .filter(member -> member.isActive())
+                .map(member -> member.getProjectRole())
+                .orElse(null);
+        }
+        return current.activeRole(projectId, userId);
+    }
+
+    public boolean isActiveMember(Long projectId, Long userId) {
+        return activeRole(projectId, userId) != null;
+    }
+
+    /**
+     * Same rules as ProjectMember.hasPermission, without loading the member
+     */
+    public boolean hasPermission(Long projectId, Long userId, String action, String resourceType) {
+        Role role = activeRole(projectId, userId);
+        return role != null && role.allows(action, resourceType);
+    }
+
+    private void applyChange(Consumer<ProjectMembershipIndex> change) {
+        if (rebuilding) {
+            synchronized (rebuildLock) {
+                if (rebuilding) {
+                    pendingDuringRebuild.add(change);
+                }
+            }
+        }
+        ProjectMembershipIndex current = index;
+        if (current != null) {
+            change.accept(current);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.dto.MembershipKey;
+import com.app.echoboard.event.ProjectMembersDeactivatedEvent;
+import com.app.echoboard.feed.ActivityOutbox;
+import com.app.echoboard.model.OutboxEvent;
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.ProjectMemberStats;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.ProjectMemberRepository;
+import com.app.echoboard.repository.ProjectMemberStatsRepository;
+import com.app.echoboard.repository.ProjectRepository;
+import com.app.echoboard.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Project Membership Service - membership lifecycle
+ * Every membership change locks the project row first, so the denormalized
+ * active member count, the member aggregate and the capacity check stay
+ * consistent under concurrency. Joins, leaves and role changes are also
+ * recorded in the activity outbox within the same transaction
+ */
+@Service
+@Transactional
+public class ProjectMembershipService {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private ProjectMemberStatsRepository projectMemberStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ActivityOutbox activityOutbox;
+
+    /**
+     * Add a user to a project (or reactivate a previous membership)
+     * @param invitedById inviter ID (null for a direct join)
+     * @return active member relationship
+     */
+    public ProjectMember addMember(Long projectId, Long userId, Role role, Long invitedById) {
+        Project project = lockProject(projectId);
+
+        ProjectMember existing = projectMemberRepository.findByProjectIdAndUserId(projectId, userId).orElse(null);
+        if (existing != null) {
+            if (existing.isActive()) {
+                throw new IllegalStateException("User is already an active member of this project");
+            }
+            existing.setProjectRole(role);
+            return activate(project, existing);
+        }
+
+        ensureCapacity(project);
+        User user = userRepository.getReferenceById(userId);
+        ProjectMember member = invitedById != null
+            ? new ProjectMember(project, user, role, userRepository.getReferenceById(invitedById))
+            : new ProjectMember(project, user, role);
+        projectMemberRepository.save(member);
+        project.memberActivated();
+        statsFor(project).memberActivated(role, LocalDateTime.now(), project);
+        activityOutbox.record(OutboxEvent.Type.MEMBER_JOINED, projectId, userId, role);
+        return member;
+    }
+
+    /**
+     * Member leaves the project
+     */
+    public ProjectMember leave(Long projectId, Long userId) {
+        Project project = lockProject(projectId);
+        ProjectMember member = findMember(projectId, userId);
+        if (member.isActive()) {
+            member.leave();
+            project.memberDeactivated();
+            statsFor(project).memberDeactivated(member.getProjectRole(), project);
+            activityOutbox.record(OutboxEvent.Type.MEMBER_LEFT, projectId, userId, member.getProjectRole());
+        }
+        return member;
+    }
+
+    /**
+     * Suspend an active member
+     */
+    public ProjectMember suspend(Long projectId, Long userId) {
+        Project project = lockProject(projectId);
+        ProjectMember member = findMember(projectId, userId);
+        if (member.isActive()) {
+            member.suspend();
+            project.memberDeactivated();
+            statsFor(project).memberDeactivated(member.getProjectRole(), project);
+            activityOutbox.record(OutboxEvent.Type.MEMBER_SUSPENDED, projectId, userId, member.getProjectRole());
+        }
+        return member;
+    }
+
+    /**
+     * Reactivate a member who left or was suspended
+     */
+    public ProjectMember reactivate(Long projectId, Long userId) {
+        Project project = lockProject(projectId);
+        ProjectMember member = findMember(projectId, userId);
+        return member.isActive() ? member : activate(project, member);
+    }
+
+    /**
+     * Change the role of a member
+     */
+    public ProjectMember changeRole(Long projectId, Long userId, Role role) {
+        Project project = lockProject(projectId);
+        ProjectMember member = findMember(projectId, userId);
+        if (member.isActive() && member.getProjectRole() != role) {
+            statsFor(project).roleChanged(member.getProjectRole(), role);
+            activityOutbox.record(OutboxEvent.Type.MEMBER_ROLE_CHANGED, projectId, userId, role);
+        }
+        member.setProjectRole(role);
+        return member;
+    }
+
+    /**
+     * Deactivate every active member of a project in one statement
+     * Each of them still gets a MEMBER_LEFT outbox event, so the leave reaches their own feed
+     */
+    public void deactivateAll(Long projectId) {
+        Project project = lockProject(projectId);
+        List<MembershipKey> leaving = projectMemberRepository.findActiveMembershipKeysByProjectId(projectId);
+        projectMemberRepository.deactivateAllProjectMembers(projectId);
+        leaving.forEach(key -> activityOutbox.record(OutboxEvent.Type.MEMBER_LEFT, projectId, key.userId(), key.projectRole()));
+        project.resetMemberCount();
+        statsFor(project).reset(project);
+        eventPublisher.publishEvent(new ProjectMembersDeactivatedEvent(projectId));
+    }
+
+    private ProjectMember activate(Project project, ProjectMember member) {
+        ensureCapacity(project);
+        member.reactivate();
+        project.memberActivated();
+        statsFor(project).memberActivated(member.getProjectRole(), LocalDateTime.now(), project);
+        activityOutbox.record(OutboxEvent.Type.MEMBER_JOINED, project.getId(), member.getUser().getId(), member.getProjectRole());
+        return member;
+    }
+
+    /**
+     * Aggregate row of a locked project (created here for projects saved without ProjectService)
+     */
+    private ProjectMemberStats statsFor(Project project) {
+        return projectMemberStatsRepository.findById(project.getId())
+            .orElseGet(() -> projectMemberStatsRepository.save(new ProjectMemberStats(project)));
+    }
+
+    private Project lockProject(Long projectId) {
+        return projectRepository.findByIdForUpdate(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+    }
+
+    private ProjectMember findMember(Long projectId, Long userId) {
+        return projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
+            .orElseThrow(() -> new IllegalArgumentException("User " + userId + " is not a member of project " + projectId));
+    }
+
+    private static void ensureCapacity(Project project) {
+        if (!project.canAddMoreMembers()) {
+            throw new IllegalStateException("Project has reached its member limit (" + project.getMaxMembers() + ")");
+        }
+    }
+}
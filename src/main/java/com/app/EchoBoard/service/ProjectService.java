@@ -0,0 +1,78 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.feed.ActivityOutbox;
+import com.app.echoboard.model.OutboxEvent;
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMemberStats;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.ProjectMemberStatsRepository;
+import com.app.echoboard.repository.ProjectRepository;
+import com.app.echoboard.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Project Service - project lifecycle
+ * Creates the member aggregate row together with the project and keeps its capacity in step
+ */
+@Service
+@Transactional
+public class ProjectService {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberStatsRepository projectMemberStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityOutbox activityOutbox;
+
+    /**
+     * Create a project
+     * @param createdById creator user ID
+     * @return saved project
+     */
+    public Project createProject(String name, String description, Long createdById) {
+        User createdBy = userRepository.getReferenceById(createdById);
+        Project project = projectRepository.save(new Project(name, description, createdBy));
+        projectMemberStatsRepository.save(new ProjectMemberStats(project));
+        return project;
+    }
+
+    /**
+     * Change the member limit of a project
+     */
+    public Project updateMaxMembers(Long projectId, Integer maxMembers) {
+        Project project = lockProject(projectId);
+        project.setMaxMembers(maxMembers);
+        statsFor(project).updateCapacity(project);
+        return project;
+    }
+
+    /**
+     * Change the status of a project (recorded in the activity outbox)
+     */
+    public Project changeStatus(Long projectId, Project.ProjectStatus status) {
+        Project project = lockProject(projectId);
+        if (project.getStatus() != status) {
+            activityOutbox.record(OutboxEvent.Type.PROJECT_STATUS_CHANGED, projectId, null, status);
+        }
+        project.setStatus(status);
+        return project;
+    }
+
+    private ProjectMemberStats statsFor(Project project) {
+        return projectMemberStatsRepository.findById(project.getId())
+            .orElseGet(() -> projectMemberStatsRepository.save(new ProjectMemberStats(project)));
+    }
+
+    private Project lockProject(Long projectId) {
+        return projectRepository.findByIdForUpdate(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+    }
+}
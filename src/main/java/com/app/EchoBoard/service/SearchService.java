@@ -0,0 +1,181 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.event.ProjectChangedEvent;
+import com.app.echoboard.event.UserChangedEvent;
+import com.app.echoboard.repository.ProjectRepository;
+import com.app.echoboard.repository.UserRepository;
+import com.app.echoboard.search.InMemorySearchIndex;
+import com.app.echoboard.search.SearchDocument;
+import com.app.echoboard.search.SearchIndex;
+import com.app.echoboard.search.SearchResults;
+import com.app.echoboard.search.SearchType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Search Service - ranked project and user search
+ * Delegates to the configured SearchIndex; an in-process index is loaded at startup and
+ * kept current by UserChangedEvent / ProjectChangedEvent
+ */
+@Service
+public class SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // False until the in-process index is loaded; searches fall back to the database meanwhile
+    private volatile boolean ready;
+
+    // Changes committed while the index is loading, replayed over possibly stale loaded rows
+    private final Object loadLock = new Object();
+    private final Queue<Consumer<SearchIndex>> pendingDuringLoad = new ConcurrentLinkedQueue<>();
+    private volatile boolean loading;
+
+    @PostConstruct
+    void registerMetrics() {
+        for (SearchType type : SearchType.values()) {
+            Gauge.builder("echoboard.search.index.documents", searchIndex, index -> index.size(type))
+                .description("Documents in the search index")
+                .tag("type", type.name().toLowerCase())
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Load the in-process index from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!searchIndex.isInProcess()) {
+            ready = true;
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        loading = true;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<SearchDocument> projects = projectRepository.streamSearchDocuments()) {
+                projects.forEach(doc -> searchIndex.put(SearchType.PROJECT, doc));
+            }
+            try (Stream<SearchDocument> users = userRepository.streamSearchDocuments()) {
+                users.forEach(doc -> searchIndex.put(SearchType.USER, doc));
+            }
+        });
+
+        synchronized (loadLock) {
+            Consumer<SearchIndex> change;
+            while ((change = pendingDuringLoad.poll()) != null) {
+                change.accept(searchIndex);
+            }
+            loading = false;
+            ready = true;
+        }
+        log.info("Search index loaded {} projects and {} users in {} ms",
+            searchIndex.size(SearchType.PROJECT), searchIndex.size(SearchType.USER), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Apply a committed project change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        applyChange(index -> {
+            if (event.removed()) {
+                index.remove(SearchType.PROJECT, event.projectId());
+            } else {
+                index.put(SearchType.PROJECT, new SearchDocument(event.projectId(), event.name(), event.description()));
+            }
+        });
+    }
+
+    /**
+     * Apply a committed user change; inactive users are not searchable
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        applyChange(index -> {
+            if (event.isVisible()) {
+                index.put(SearchType.USER, new SearchDocument(event.userId(), event.name()));
+            } else {
+                index.remove(SearchType.USER, event.userId());
+            }
+        });
+    }
+
+    /**
+     * Ranked search
+     * @param page zero-based page number
+     * @param size page size
+     */
+    public SearchResults search(SearchType type, String query, int page, int size) {
+        if (!ready) {
+            return searchDatabase(type, query, page, size);
+        }
+        return searchIndex.search(type, query, page, size);
+    }
+
+    /**
+     * Fallback while the index loads: LIKE scan, ranked by a throwaway index over the matches
+     */
+    private SearchResults searchDatabase(SearchType type, String query, int page, int size) {
+        String keyword = query.trim();
+        if (keyword.length() < SearchIndex.MIN_QUERY_LENGTH) {
+            return SearchResults.empty(page, size);
+        }
+        InMemorySearchIndex matches = new InMemorySearchIndex();
+        if (type == SearchType.PROJECT) {
+            projectRepository.findByNameContainingIgnoreCase(keyword).forEach(p ->
+                matches.put(type, new SearchDocument(p.getId(), p.getName(), p.getDescription())));
+            projectRepository.findByDescriptionContainingIgnoreCase(keyword).forEach(p ->
+                matches.put(type, new SearchDocument(p.getId(), p.getName(), p.getDescription())));
+        } else {
+            userRepository.findByNameContainingIgnoreCase(keyword).stream()
+                .filter(u -> Boolean.TRUE.equals(u.getIsActive()))
+                .forEach(u -> matches.put(type, new SearchDocument(u.getId(), u.getName())));
+        }
+        return matches.search(type, query, page, size);
+    }
+
+    private void applyChange(Consumer<SearchIndex> change) {
+        if (!searchIndex.isInProcess()) {
+            return;
+        }
+        if (loading) {
+            synchronized (loadLock) {
+                if (loading) {
+                    pendingDuringLoad.add(change);
+                }
+            }
+        }
+        change.accept(searchIndex);
+    }
+}
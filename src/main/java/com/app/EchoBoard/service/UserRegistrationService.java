@@ -0,0 +1,125 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.dto.RegistrationResult;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * User Registration Service - set-based bulk registration
+ * One IN query per chunk for duplicate detection, JDBC-batched inserts in one transaction
+ */
+@Service
+public class UserRegistrationService {
+
+    // Largest payload accepted by a single batch registration
+    public static final int MAX_BATCH_SIZE = 50_000;
+
+    // Emails per IN (...) lookup, keeps bind parameter lists well under driver limits
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    // Flush and clear the persistence context every N inserts (multiple of hibernate.jdbc.batch_size)
+    private static final int FLUSH_EVERY = 500;
+
+    // Translates exceptions thrown by direct EntityManager calls (repository proxies do this for their own methods)
+    private static final HibernateJpaDialect JPA_DIALECT = new HibernateJpaDialect();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private Validator validator;
+
+    /**
+     * Register a batch of users
+     * @param candidates new users, in payload order
+     * @return one result per candidate, in the same order
+     */
+    @Transactional
+    public List<RegistrationResult> registerAll(List<User> candidates) {
+        RegistrationResult[] results = new RegistrationResult[candidates.size()];
+
+        // 1. Validate every row and drop duplicates inside the payload
+        Map<String, Integer> firstIndexByEmail = new LinkedHashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            User candidate = candidates.get(i);
+            Set<ConstraintViolation<User>> violations = validator.validate(candidate);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+                results[i] = RegistrationResult.invalid(i, candidate.getEmail(), message);
+            } else if (firstIndexByEmail.putIfAbsent(candidate.getEmail(), i) != null) {
+                results[i] = RegistrationResult.duplicate(i, candidate.getEmail(), "Email appears more than once in this batch!");
+            }
+        }
+
+        // 2. Find emails that are already registered
+        Set<String> existing = findExistingEmails(new ArrayList<>(firstIndexByEmail.keySet()));
+
+        // 3. Insert the rest in JDBC batches
+        int pending = 0;
+        for (Map.Entry<String, Integer> entry : firstIndexByEmail.entrySet()) {
+            int index = entry.getValue();
+            if (existing.contains(entry.getKey())) {
+                results[index] = RegistrationResult.duplicate(index, entry.getKey(), "Email already exists!");
+                continue;
+            }
+
+            User user = candidates.get(index);
+            entityManager.persist(user); // sequence id is assigned here, before the insert is flushed
+            results[index] = RegistrationResult.created(index, user.getEmail(), user.getId());
+
+            if (++pending % FLUSH_EVERY == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Send the pending inserts; a unique-key violation (an email registered concurrently after the duplicate check)
+     * surfaces as DataIntegrityViolationException, same as through a repository
+     */
+    private void flushAndClear() {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            RuntimeException translated = JPA_DIALECT.translateExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+        entityManager.clear();
+    }
+
+    private Set<String> findExistingEmails(List<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, emails.size()));
+            existing.addAll(userRepository.findExistingEmails(chunk));
+        }
+        return existing;
+    }
+}
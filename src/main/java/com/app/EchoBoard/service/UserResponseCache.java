@@ -0,0 +1,89 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.dto.UserSummary;
+import com.app.echoboard.dto.UserVersion;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+
+/**
+ * User Response Cache - serialized JSON of user resources
+ * Keyed by UserVersion, so an update produces a new key and stale entries simply age out;
+ * bounded by total bytes. A hit skips both the entity load and Jackson
+ */
+@Service
+public class UserResponseCache {
+
+    // Approximate per-entry overhead (key, node, array header) counted against the byte budget
+    private static final int ENTRY_OVERHEAD = 96;
+
+    @Value("${echoboard.users.response-cache.max-size:64MB}")
+    private DataSize maxSize;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<UserVersion, byte[]> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((UserVersion version, byte[] json) -> json.length + ENTRY_OVERHEAD)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-json");
+    }
+
+    /**
+     * Serialized user together with the version it was serialized from
+     */
+    public record VersionedJson(UserVersion version, byte[] json) {}
+
+    /**
+     * JSON of the user at the given version; empty if the user no longer exists
+     * If the user changed since the version was read, the newer state is returned (with its own version)
+     * and cached under that version
+     */
+    public Optional<VersionedJson> json(UserVersion version) {
+        byte[] cached = cache.getIfPresent(version);
+        if (cached != null) {
+            return Optional.of(new VersionedJson(version, cached));
+        }
+        // Entity lookup so the second-level cache can answer
+        Optional<User> user = userRepository.findById(version.id());
+        if (user.isEmpty()) {
+            return Optional.empty();
+        }
+        UserVersion loaded = UserVersion.of(user.get());
+        byte[] json = serialize(UserSummary.from(user.get()));
+        cache.put(loaded, json);
+        return Optional.of(new VersionedJson(loaded, json));
+    }
+
+    private byte[] serialize(UserSummary summary) {
+        try {
+            return objectMapper.writeValueAsBytes(summary);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize user " + summary.id(), e);
+        }
+    }
+}
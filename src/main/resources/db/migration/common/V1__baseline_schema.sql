@@ -0,0 +1,71 @@
+-- Baseline schema (matches the JPA entities; portable between H2 and PostgreSQL)
+
+-- Sequences step by the @SequenceGenerator allocationSize (pooled-lo optimizer)
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE projects_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE project_members_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id              BIGINT       NOT NULL,
+    email           VARCHAR(255) NOT NULL,
+    name            VARCHAR(50)  NOT NULL,
+    avatar_url      VARCHAR(255),
+    role            VARCHAR(32)  NOT NULL,
+    oauth_provider  VARCHAR(255),
+    oauth_id        VARCHAR(255),
+    oauth_username  VARCHAR(255),
+    is_active       BOOLEAN      NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE projects (
+    id                   BIGINT       NOT NULL,
+    name                 VARCHAR(255) NOT NULL,
+    description          TEXT,
+    status               VARCHAR(32)  NOT NULL,
+    created_by           BIGINT       NOT NULL,
+    github_repo_url      VARCHAR(255),
+    github_repo_owner    VARCHAR(255),
+    github_repo_name     VARCHAR(255),
+    figma_file_url       VARCHAR(255),
+    figma_file_key       VARCHAR(255),
+    is_public            BOOLEAN      NOT NULL,
+    max_members          INTEGER,
+    active_member_count  INTEGER      DEFAULT 0 NOT NULL,
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6),
+    CONSTRAINT pk_projects PRIMARY KEY (id),
+    CONSTRAINT fk_projects_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+);
+
+CREATE TABLE project_members (
+    id            BIGINT       NOT NULL,
+    project_id    BIGINT       NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    project_role  VARCHAR(32)  NOT NULL,
+    status        VARCHAR(32)  NOT NULL,
+    join_method   VARCHAR(32),
+    invited_by    BIGINT,
+    joined_at     TIMESTAMP(6) NOT NULL,
+    left_at       TIMESTAMP(6),
+    CONSTRAINT pk_project_members PRIMARY KEY (id),
+    CONSTRAINT uk_project_members_project_user UNIQUE (project_id, user_id),
+    CONSTRAINT fk_project_members_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_project_members_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_project_members_invited_by FOREIGN KEY (invited_by) REFERENCES users (id)
+);
+
+CREATE TABLE project_member_stats (
+    project_id           BIGINT       NOT NULL,
+    developer_count      INTEGER      DEFAULT 0 NOT NULL,
+    designer_count       INTEGER      DEFAULT 0 NOT NULL,
+    product_owner_count  INTEGER      DEFAULT 0 NOT NULL,
+    stakeholder_count    INTEGER      DEFAULT 0 NOT NULL,
+    last_joined_at       TIMESTAMP(6),
+    spare_capacity       INTEGER      DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_project_member_stats PRIMARY KEY (project_id),
+    CONSTRAINT fk_project_member_stats_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
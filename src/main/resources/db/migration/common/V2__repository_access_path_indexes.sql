@@ -0,0 +1,39 @@
+-- Indexes matched to repository access paths (portable between H2 and PostgreSQL)
+-- Vendor-specific functional and partial indexes live in db/migration/{vendor}/V3
+
+-- UserRepository
+-- findByOauthProviderAndOauthId
+CREATE INDEX idx_users_oauth_provider_oauth_id ON users (oauth_provider, oauth_id);
+-- findByRoleAndIdGreaterThanOrderByIdAsc (keyset), findByRole, countByRole
+CREATE INDEX idx_users_role_id ON users (role, id);
+-- findByIsActiveTrueAndIdGreaterThanOrderByIdAsc (keyset), findByIsActiveTrue
+CREATE INDEX idx_users_is_active_id ON users (is_active, id);
+
+-- ProjectRepository
+-- findByIsPublicTrueAndStatus
+CREATE INDEX idx_projects_is_public_status ON projects (is_public, status);
+-- findByStatus, countByStatus
+CREATE INDEX idx_projects_status ON projects (status);
+-- findByGithubRepoOwnerAndGithubRepoName
+CREATE INDEX idx_projects_github_repo ON projects (github_repo_owner, github_repo_name);
+-- findByFigmaFileKey
+CREATE INDEX idx_projects_figma_file_key ON projects (figma_file_key);
+-- findByCreatedById, countByCreatedBy
+CREATE INDEX idx_projects_created_by ON projects (created_by);
+-- findProjectsWithMoreThanMembers
+CREATE INDEX idx_projects_active_member_count ON projects (active_member_count);
+
+-- ProjectMemberRepository
+-- findRecentProjectMembers, findByProjectIdAndStatus, findActiveProjectMembersByProjectId
+CREATE INDEX idx_project_members_project_status_joined ON project_members (project_id, status, joined_at DESC);
+-- findActiveProjectMembersByProjectIdAndRole, findByProjectIdAndProjectRole
+CREATE INDEX idx_project_members_project_role_status ON project_members (project_id, project_role, status);
+-- findByUserAndStatus, findByUserId, countByUserAndStatus, findActiveProjectsByUserId
+CREATE INDEX idx_project_members_user_status ON project_members (user_id, status);
+-- findMembersInvitedByUser, findByInvitedBy
+CREATE INDEX idx_project_members_invited_by ON project_members (invited_by, join_method);
+-- findByJoinedAtBetween, streamExportRowsByJoinedAtBetween
+CREATE INDEX idx_project_members_joined_at ON project_members (joined_at);
+
+-- ProjectMemberStats (findProjectsCanAddMoreMembers)
+CREATE INDEX idx_project_member_stats_spare_capacity ON project_member_stats (spare_capacity);
@@ -0,0 +1,35 @@
+-- Transactional outbox and precomputed per-user activity feed (portable between H2 and PostgreSQL)
+
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE user_feed_entries_seq START WITH 1 INCREMENT BY 50;
+
+-- Written in the same transaction as the membership / project change; deleted once fanned out
+CREATE TABLE outbox_events (
+    id               BIGINT       NOT NULL,
+    event_type       VARCHAR(32)  NOT NULL,
+    project_id       BIGINT       NOT NULL,
+    subject_user_id  BIGINT,
+    detail           VARCHAR(32),
+    occurred_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
+
+-- Derived read model, capped per user; no foreign keys so fan-out inserts and trims stay cheap
+CREATE TABLE user_feed_entries (
+    id                 BIGINT       NOT NULL,
+    user_id            BIGINT       NOT NULL,
+    event_id           BIGINT       NOT NULL,
+    event_type         VARCHAR(32)  NOT NULL,
+    project_id         BIGINT       NOT NULL,
+    project_name       VARCHAR(255),
+    subject_user_id    BIGINT,
+    subject_user_name  VARCHAR(255),
+    detail             VARCHAR(32),
+    occurred_at        TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_user_feed_entries PRIMARY KEY (id),
+    CONSTRAINT uk_user_feed_entries_user_event UNIQUE (user_id, event_id)
+);
+
+-- UserFeedEntryRepository: feed pages (newest first, keyset on (occurred_at, id)) and trimming.
+-- Ordered by occurrence time: ids from the pooled sequence follow insert order across dispatchers, not event time
+CREATE INDEX idx_user_feed_entries_user_occurred_at ON user_feed_entries (user_id, occurred_at, id);
@@ -0,0 +1,4 @@
+-- H2 has no functional or partial indexes; the composite indexes from V2 cover these paths.
+-- findByEmailIgnoreCase (upper(email) = upper(?)) has no index on H2 and scans users.
+-- This migration is intentionally empty so both vendors share the same version history.
+SELECT 1;
@@ -0,0 +1,20 @@
+-- PostgreSQL functional and partial indexes
+
+-- findByEmailIgnoreCase: Spring Data derives IgnoreCase as upper(email) = upper(?),
+-- so the expression index uses upper() rather than lower()
+CREATE INDEX idx_users_email_upper ON users (upper(email));
+
+-- findRecentProjectMembers / findActiveProjectMembersByProjectId: only ACTIVE rows, newest first
+CREATE INDEX idx_project_members_active_project_joined ON project_members (project_id, joined_at DESC) WHERE status = 'ACTIVE';
+
+-- findByUserAndStatus(ACTIVE) / findActiveProjectsByUserId: only ACTIVE rows
+CREATE INDEX idx_project_members_active_user ON project_members (user_id) WHERE status = 'ACTIVE';
+
+-- findActiveProjectMembersByProjectIdAndRole / findActiveUsersByProjectIdAndRole
+CREATE INDEX idx_project_members_active_project_role ON project_members (project_id, project_role) WHERE status = 'ACTIVE';
+
+-- findByIsPublicTrueAndStatus: public projects are a small share of the table
+CREATE INDEX idx_projects_public_status ON projects (status) WHERE is_public;
+
+-- findProjectsCanAddMoreMembers: only rows with room left
+CREATE INDEX idx_project_member_stats_has_capacity ON project_member_stats (project_id) WHERE spare_capacity > 0;
@@ -0,0 +1,10 @@
+-- Trigram indexes for the PostgreSQL search backend (echoboard.search.backend=postgres)
+-- gin_trgm_ops answers ILIKE '%q%' without scanning the table
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_projects_name_trgm ON projects USING gin (name gin_trgm_ops);
+CREATE INDEX idx_projects_description_trgm ON projects USING gin (description gin_trgm_ops);
+
+-- Only active users are searchable
+CREATE INDEX idx_users_name_trgm ON users USING gin (name gin_trgm_ops) WHERE is_active;
@@ -0,0 +1,140 @@
+package com.app.echoboard.benchmark;
+
+import com.app.echoboard.dto.BoardDelta;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.push.BoardPushHub;
+import com.app.echoboard.push.PushProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Board push fan-out benchmark
+ * 50,000 in-process subscribers over 500 project topics; every round makes a burst of changes to every
+ * project and measures the time until every subscriber has received the round's delta (coalescing window
+ * included). 1% of the subscribers are slow readers (500 ms per message) to show buffer overflow and resync.
+ * Emitters count bytes instead of writing to sockets, so this measures the hub, not the network
+ * Run with: mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+public class BoardPushBenchmark {
+
+    private static final int PROJECTS = 500;
+    private static final int SUBSCRIBERS_PER_PROJECT = 100;
+    private static final int CHANGES_PER_ROUND = 20;
+    private static final int ROUNDS = 30;
+    private static final Duration COALESCE_WINDOW = Duration.ofMillis(50);
+
+    @Test
+    void fanOut() throws Exception {
+        PushProperties properties = new PushProperties();
+        properties.setCoalesceWindow(COALESCE_WINDOW);
+        properties.setBufferSize(8);
+
+        AtomicReference<CountDownLatch> round = new AtomicReference<>(new CountDownLatch(0));
+        AtomicLong bytes = new AtomicLong();
+        AtomicLong deltas = new AtomicLong();
+        AtomicLong resyncs = new AtomicLong();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (BoardPushHub hub = new BoardPushHub(properties, new ObjectMapper(), (projectId, userId) -> true)) {
+            hub.bindTo(registry);
+            long subscribeStart = System.nanoTime();
+            int fastSubscribers = 0;
+            for (long projectId = 1; projectId <= PROJECTS; projectId++) {
+                for (long userId = 1; userId <= SUBSCRIBERS_PER_PROJECT; userId++) {
+                    boolean slow = userId == 1;
+                    fastSubscribers += slow ? 0 : 1;
+                    hub.subscribe(projectId, userId, new CountingEmitter(slow, round, bytes, deltas, resyncs));
+                }
+            }
+            double subscribeMillis = (System.nanoTime() - subscribeStart) / 1_000_000.0;
+            Thread.sleep(500);
+
+            long[] latencies = new long[ROUNDS];
+            for (int r = 0; r < ROUNDS; r++) {
+                CountDownLatch delivered = new CountDownLatch(fastSubscribers);
+                round.set(delivered);
+                long start = System.nanoTime();
+                for (long projectId = 1; projectId <= PROJECTS; projectId++) {
+                    for (int c = 0; c < CHANGES_PER_ROUND; c++) {
+                        hub.memberChanged(projectId, new BoardDelta.MemberState(
+                            1L + c % SUBSCRIBERS_PER_PROJECT, Role.DEVELOPER, ProjectMember.MemberStatus.ACTIVE, false));
+                    }
+                }
+                assertThat(delivered.await(30, TimeUnit.SECONDS)).isTrue();
+                latencies[r] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+
+            long totalChanges = (long) ROUNDS * PROJECTS * CHANGES_PER_ROUND;
+            double seconds = Arrays.stream(latencies).sum() / 1_000_000_000.0;
+            System.out.printf("[BoardPushBenchmark] %d subscribers on %d topics subscribed in %.1f ms, heap used %d MB%n",
+                hub.subscribers(), hub.topics(), subscribeMillis,
+                (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / (1024 * 1024));
+            System.out.printf("[BoardPushBenchmark] %d changes coalesced into %d topic deltas, %d deliveries (%.0f/s), %.1f MB sent%n",
+                totalChanges, (long) registry.get("echoboard.push.deltas").functionCounter().count(), deltas.get(), deltas.get() / seconds, bytes.get() / (1024.0 * 1024.0));
+            System.out.printf("[BoardPushBenchmark] round fan-out (window %d ms): p50 %.1f ms p99 %.1f ms max %.1f ms | slow-subscriber resyncs %d%n",
+                COALESCE_WINDOW.toMillis(), latencies[ROUNDS / 2] / 1_000_000.0,
+                latencies[(int) Math.ceil(ROUNDS * 0.99) - 1] / 1_000_000.0, latencies[ROUNDS - 1] / 1_000_000.0, resyncs.get());
+
+            assertThat(resyncs.get()).isPositive();
+        }
+    }
+
+    /**
+     * Emitter that counts bytes and delta deliveries; slow ones sleep per message
+     */
+    private static class CountingEmitter extends SseEmitter {
+
+        private final boolean slow;
+        private final AtomicReference<CountDownLatch> round;
+        private final AtomicLong bytes;
+        private final AtomicLong deltas;
+        private final AtomicLong resyncs;
+
+        CountingEmitter(boolean slow, AtomicReference<CountDownLatch> round,
+                        AtomicLong bytes, AtomicLong deltas, AtomicLong resyncs) {
+            super(0L);
+            this.slow = slow;
+            this.round = round;
+            this.bytes = bytes;
+            this.deltas = deltas;
+            this.resyncs = resyncs;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(data -> text.append(data.getData()));
+            bytes.addAndGet(text.length());
+            if (slow) {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                if (text.indexOf("event:resync") >= 0) {
+                    resyncs.incrementAndGet();
+                }
+            } else if (text.indexOf("event:delta") >= 0) {
+                deltas.incrementAndGet();
+                round.get().countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.app.echoboard.benchmark;
+
+import com.app.echoboard.model.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Member count query benchmark
+ * Correlated COUNT subqueries vs. range scans over the member counter and project_member_stats at 100k projects
+ * Run with: mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:membercountbench")
+@ActiveProfiles("test")
+class MemberCountQueryBenchmark {
+
+    private static final int PROJECTS = 100_000;
+    private static final int MAX_MEMBERS = 10;
+    private static final int USERS = 12;
+    private static final int ROUNDS = 5;
+
+    // Queries as they were before the aggregate existed (ids only, to time the query rather than hydration)
+    private static final String LEGACY_MORE_THAN =
+        "SELECT p.id FROM Project p WHERE " +
+        "(SELECT COUNT(pm) FROM ProjectMember pm WHERE pm.project = p AND pm.status = 'ACTIVE') > :memberCount";
+    private static final String LEGACY_CAN_ADD =
+        "SELECT p.id FROM Project p WHERE " +
+        "(SELECT COUNT(pm) FROM ProjectMember pm WHERE pm.project = p AND pm.status = 'ACTIVE') < p.maxMembers " +
+        "AND p.status = 'ACTIVE'";
+
+    private static final String AGGREGATE_MORE_THAN =
+        "SELECT p.id FROM Project p WHERE p.activeMemberCount > :memberCount";
+    private static final String AGGREGATE_CAN_ADD =
+        "SELECT p.id FROM ProjectMemberStats s JOIN Project p ON p.id = s.projectId " +
+        "WHERE s.spareCapacity > 0 AND p.status = 'ACTIVE'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareCorrelatedCountAndAggregate() {
+        seed();
+
+        long legacyMoreThan = time(() -> ids(LEGACY_MORE_THAN, 8));
+        long aggregateMoreThan = time(() -> ids(AGGREGATE_MORE_THAN, 8));
+        long legacyCanAdd = time(() -> ids(LEGACY_CAN_ADD, null));
+        long aggregateCanAdd = time(() -> ids(AGGREGATE_CAN_ADD, null));
+
+        System.out.printf("[MemberCountQueryBenchmark] %d projects, avg of %d rounds%n", PROJECTS, ROUNDS);
+        System.out.printf("[MemberCountQueryBenchmark] moreThanMembers: correlated %d ms, aggregate %d ms%n", legacyMoreThan, aggregateMoreThan);
+        System.out.printf("[MemberCountQueryBenchmark] canAddMoreMembers: correlated %d ms, aggregate %d ms%n", legacyCanAdd, aggregateCanAdd);
+
+        // Same answers from both forms
+        assertThat(ids(AGGREGATE_MORE_THAN, 8)).hasSameSizeAs(ids(LEGACY_MORE_THAN, 8));
+        assertThat(ids(AGGREGATE_CAN_ADD, null)).hasSameSizeAs(ids(LEGACY_CAN_ADD, null));
+    }
+
+    private List<Long> ids(String jpql, Integer memberCount) {
+        return transactionTemplate.execute(status -> {
+            var query = entityManager.createQuery(jpql, Long.class);
+            if (memberCount != null) {
+                query.setParameter("memberCount", memberCount);
+            }
+            return query.getResultList();
+        });
+    }
+
+    private static long time(Supplier<List<Long>> query) {
+        query.get(); // warm up
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / ROUNDS / 1_000_000;
+    }
+
+    // Bulk seed through JDBC: project i has (i % (MAX_MEMBERS + 2)) active members
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>();
+        for (long u = 1; u <= USERS; u++) {
+            users.add(new Object[]{u, "count" + u + "@echoboard.com", "Count User " + u, Role.DEVELOPER.name(), true, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, name, role, is_active, created_at) VALUES (?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> projects = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> stats = new ArrayList<>();
+        long memberId = 1;
+        for (long p = 1; p <= PROJECTS; p++) {
+            int active = (int) (p % (MAX_MEMBERS + 2));
+            projects.add(new Object[]{p, "Count Project " + p, "ACTIVE", 1L, false, MAX_MEMBERS, active, now});
+            for (long u = 1; u <= active; u++) {
+                members.add(new Object[]{memberId++, p, u, Role.DEVELOPER.name(), "ACTIVE", now});
+            }
+            stats.add(new Object[]{p, active, 0, 0, 0, now, Math.max(0, MAX_MEMBERS - active)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, name, status, created_by, is_public, max_members, active_member_count, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", projects);
+        jdbcTemplate.batchUpdate("INSERT INTO project_members (id, project_id, user_id, project_role, status, joined_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)", members);
+        jdbcTemplate.batchUpdate("INSERT INTO project_member_stats (project_id, developer_count, designer_count, " +
+            "product_owner_count, stakeholder_count, last_joined_at, spare_capacity) VALUES (?, ?, ?, ?, ?, ?, ?)", stats);
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.echoboard.benchmark;
+
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch insert benchmark
+ * Inserts 100k project memberships and reports JDBC statements and wall time
+ * Run with: mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:batchinsertbench",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class MembershipBatchInsertBenchmark {
+
+    private static final int PROJECTS = 100;
+    private static final int USERS = 1_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void insertHundredThousandMemberships() {
+        List<Long> userIds = new ArrayList<>();
+        List<Long> projectIds = new ArrayList<>();
+
+        // Seed users and projects (not measured)
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < USERS; i++) {
+                User user = new User("batch" + i + "@echoboard.com", "Batch User " + i, Role.DEVELOPER);
+                entityManager.persist(user);
+                userIds.add(user.getId());
+            }
+            User owner = entityManager.getReference(User.class, userIds.get(0));
+            for (int i = 0; i < PROJECTS; i++) {
+                Project project = new Project("Batch Project " + i, null, owner);
+                project.setMaxMembers(USERS);
+                entityManager.persist(project);
+                projectIds.add(project.getId());
+            }
+        });
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int pending = 0;
+            for (Long projectId : projectIds) {
+                Project project = entityManager.getReference(Project.class, projectId);
+                for (Long userId : userIds) {
+                    User user = entityManager.getReference(User.class, userId);
+                    entityManager.persist(new ProjectMember(project, user, Role.values()[(int) (userId % 4)]));
+                    if (++pending % FLUSH_EVERY == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                        project = entityManager.getReference(Project.class, projectId);
+                    }
+                }
+            }
+        });
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long memberships = (long) PROJECTS * USERS;
+        System.out.printf("[MembershipBatchInsertBenchmark] %d memberships in %d ms, %d statements prepared, %d entities inserted%n",
+            memberships, elapsedMillis, statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(memberships);
+        // Batched: far fewer statements than rows (one per batch plus pooled sequence calls)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(memberships / 10);
+    }
+}
@@ -0,0 +1,159 @@
+package com.app.echoboard.benchmark;
+
+import com.app.echoboard.EchoboardApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Blocking vs. reactive read API benchmark
+ * Drives the JPA endpoints (/api/users/**) and their R2DBC counterparts (/api/reactive/users/**) with an
+ * increasing number of concurrent closed-loop clients and reports throughput, p50/p99 latency and the peak
+ * number of live JVM threads. Tomcat runs on a platform thread pool here, so the blocking endpoints hold
+ * one request thread per in-flight query
+ * Run with: mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+public class ReactiveReadBenchmark {
+
+    private static final int USERS = 20_000;
+    private static final int[] CONCURRENCY = {16, 128, 512};
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASURE = Duration.ofSeconds(10);
+
+    @Test
+    void compareBlockingAndReactiveReads() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EchoboardApplication.class)
+                .profiles("test")
+                .properties(
+                    "server.port=0",
+                    "spring.datasource.url=jdbc:h2:mem:reactivebench;DB_CLOSE_DELAY=-1",
+                    "spring.threads.virtual.enabled=false",
+                    "server.tomcat.threads.max=200",
+                    "echoboard.r2dbc.max-size=20")
+                .run()) {
+            seed(context.getBean(JdbcTemplate.class));
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String base = "http://localhost:" + port;
+            List<Scenario> scenarios = List.of(
+                new Scenario("blocking  by id", id -> base + "/api/users/" + id),
+                new Scenario("reactive  by id", id -> base + "/api/reactive/users/" + id),
+                new Scenario("blocking  role page", id -> base + "/api/users/role/DEVELOPER?size=50"),
+                new Scenario("reactive  role page", id -> base + "/api/reactive/users/role/DEVELOPER?size=50"));
+
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+            for (int concurrency : CONCURRENCY) {
+                for (Scenario scenario : scenarios) {
+                    Result result = run(client, scenario, concurrency);
+                    print(scenario.name(), concurrency, result);
+                    assertThat(result.latencies()).isNotEmpty();
+                }
+            }
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        String[] roles = {"DEVELOPER", "DESIGNER", "PRODUCT_OWNER", "STAKEHOLDER"};
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(USERS);
+        for (int id = 1; id <= USERS; id++) {
+            rows.add(new Object[]{id, "bench" + id + "@echoboard.com", "Bench User " + id, roles[id % roles.length], true, now});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (id, email, name, role, is_active, created_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ALTER SEQUENCE users_seq RESTART WITH " + (USERS + 1));
+    }
+
+    private Result run(HttpClient client, Scenario scenario, int concurrency) throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long measureStart = System.nanoTime() + WARMUP.toNanos();
+        long end = measureStart + MEASURE.toNanos();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> drive(client, scenario, measureStart, end, latencies, errors));
+            }
+            // Peak threads during the measured window only
+            Thread.sleep(WARMUP.toMillis());
+            threads.resetPeakThreadCount();
+        }
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return new Result(sorted, errors.get(), threads.getPeakThreadCount());
+    }
+
+    /**
+     * Closed loop: each client sends its next request as soon as the previous one completes
+     */
+    private Void drive(HttpClient client, Scenario scenario, long measureStart, long end,
+                       ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) {
+        while (System.nanoTime() < end) {
+            URI uri = URI.create(scenario.uri().apply(1 + ThreadLocalRandom.current().nextInt(USERS)));
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                long elapsed = System.nanoTime() - start;
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                } else if (start >= measureStart) {
+                    latencies.add(elapsed);
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    private static void print(String scenario, int concurrency, Result result) {
+        double seconds = MEASURE.toMillis() / 1000.0;
+        System.out.printf("[ReactiveReadBenchmark] %-20s clients %4d: %8.1f req/s p50 %7.2f ms p99 %7.2f ms | errors %d, peak threads %d%n",
+            scenario, concurrency, result.latencies().length / seconds,
+            percentile(result.latencies(), 0.50), percentile(result.latencies(), 0.99),
+            result.errors(), result.peakThreads());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    private record Scenario(String name, IntFunction<String> uri) {}
+
+    private record Result(long[] latencies, long errors, int peakThreads) {}
+}
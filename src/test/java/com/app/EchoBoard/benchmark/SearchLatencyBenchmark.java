@@ -0,0 +1,123 @@
+package com.app.echoboard.benchmark;
+
+import com.app.echoboard.search.SearchResults;
+import com.app.echoboard.search.SearchType;
+import com.app.echoboard.service.SearchService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search latency benchmark
+ * In-process trigram index vs. LIKE '%q%' scans at 1M projects
+ * Run with: mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:searchbench",
+    "echoboard.search.backend=memory"
+})
+@ActiveProfiles("test")
+class SearchLatencyBenchmark {
+
+    private static final int PROJECTS = 1_000_000;
+    private static final int BATCH = 10_000;
+    private static final int INDEX_ROUNDS = 200;
+    private static final int SCAN_ROUNDS = 3;
+
+    private static final String[] WORDS = {
+        "atlas", "beacon", "canvas", "delta", "ember", "falcon", "garnet", "harbor", "indigo", "juniper",
+        "kestrel", "lantern", "meadow", "nebula", "orchid", "pioneer", "quartz", "raven", "summit", "tundra",
+        "umbra", "vertex", "willow", "xenon", "yonder", "zephyr", "onboarding", "checkout", "dashboard", "mobile"
+    };
+
+    private static final String[] QUERIES = {"atlas", "nebula orchid", "kestrel", "dash", "zephyr vertex", "on", "quartz summit 42"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Test
+    void compareIndexAndLikeScan() {
+        seed();
+        long loadStart = System.currentTimeMillis();
+        searchService.load();
+        System.out.printf("[SearchLatencyBenchmark] %d projects indexed in %d ms%n", PROJECTS, System.currentTimeMillis() - loadStart);
+
+        for (String query : QUERIES) {
+            long[] index = new long[INDEX_ROUNDS];
+            SearchResults results = null;
+            for (int i = 0; i < INDEX_ROUNDS; i++) {
+                long start = System.nanoTime();
+                results = searchService.search(SearchType.PROJECT, query, 0, 20);
+                index[i] = System.nanoTime() - start;
+            }
+
+            String pattern = "%" + query + "%";
+            long[] scan = new long[SCAN_ROUNDS];
+            long scanned = 0;
+            for (int i = 0; i < SCAN_ROUNDS; i++) {
+                long start = System.nanoTime();
+                scanned = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM projects WHERE lower(name) LIKE ? OR lower(description) LIKE ?",
+                    Long.class, pattern, pattern);
+                scan[i] = System.nanoTime() - start;
+            }
+
+            System.out.printf("[SearchLatencyBenchmark] '%s': %d hits, index p50 %.3f ms / p99 %.3f ms, LIKE scan p50 %.1f ms (%d rows)%n",
+                query, results.total(), percentile(index, 50), percentile(index, 99), percentile(scan, 50), scanned);
+
+            // 3+ character queries must return exactly what LIKE returns
+            if (query.length() > 2) {
+                assertThat(results.total()).isEqualTo(scanned);
+            }
+        }
+    }
+
+    private static double percentile(long[] nanos, int p) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int at = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, at)] / 1_000_000.0;
+    }
+
+    // Bulk seed through JDBC: names and descriptions drawn from a small vocabulary
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO users (id, email, name, role, is_active, created_at) VALUES (1, 'search@echoboard.com', 'Search User', 'DEVELOPER', TRUE, ?)", now);
+
+        List<Object[]> projects = new ArrayList<>(BATCH);
+        for (long p = 1; p <= PROJECTS; p++) {
+            String name = word(p) + " " + word(p / 7) + " " + p;
+            String description = "The " + word(p / 3) + " " + word(p / 11) + " " + word(p / 13) + " initiative";
+            projects.add(new Object[]{p, name, description, "ACTIVE", 1L, false, 10, 0, now});
+            if (projects.size() == BATCH) {
+                insert(projects);
+            }
+        }
+        insert(projects);
+    }
+
+    private void insert(List<Object[]> projects) {
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, name, description, status, created_by, is_public, max_members, " +
+            "active_member_count, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", projects);
+        projects.clear();
+    }
+
+    private static String word(long n) {
+        return WORDS[(int) (n % WORDS.length)];
+    }
+}
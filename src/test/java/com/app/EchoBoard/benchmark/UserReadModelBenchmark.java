@@ -0,0 +1,107 @@
+package com.app.echoboard.benchmark;
+
+import com.app.echoboard.dto.UserSummary;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entity vs. read model benchmark
+ * Compares serialized bytes and SQL statements for one page of GET /api/users
+ * Run with: mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class UserReadModelBenchmark {
+
+    private static final int USERS = 200;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        userRepository.deleteAll();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new User("bench" + i + "@echoboard.com", "Bench User " + i, Role.values()[i % Role.values().length]));
+        }
+        userRepository.saveAll(users);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void compareEntityAndSummaryPage() throws Exception {
+        // Before: entities serialized inside the request (open-in-view), memberships initialized one by one
+        statistics.clear();
+        byte[] entityJson = transactionTemplate.execute(status -> {
+            List<User> page = userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(USERS), User.class);
+            page.forEach(user -> user.getProjectMemberships().size());
+            try {
+                return objectMapper.writeValueAsBytes(page.stream().map(EntityView::new).toList());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long entityStatements = statistics.getPrepareStatementCount();
+
+        // After: one projection query, no entities
+        statistics.clear();
+        List<UserSummary> summaries = userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(USERS), UserSummary.class);
+        byte[] summaryJson = objectMapper.writeValueAsBytes(summaries);
+        long summaryStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("[UserReadModelBenchmark] entity:  %d bytes, %d statements%n", entityJson.length, entityStatements);
+        System.out.printf("[UserReadModelBenchmark] summary: %d bytes, %d statements%n", summaryJson.length, summaryStatements);
+
+        assertThat(summaryStatements).isEqualTo(1);
+        assertThat(entityStatements).isGreaterThan(summaryStatements);
+        assertThat(summaryJson.length).isLessThan(entityJson.length);
+    }
+
+    /**
+     * Mirrors what Jackson emitted for the User entity before the read model existed
+     * (every getter, including the membership collection and audit fields)
+     */
+    record EntityView(Long id, String email, String name, String avatarUrl, Role role,
+                      String oauthProvider, String oauthId, String oauthUsername, Boolean isActive,
+                      Object createdAt, Object updatedAt, List<Object> projectMemberships,
+                      boolean oauthUser, String displayName) {
+
+        EntityView(User user) {
+            this(user.getId(), user.getEmail(), user.getName(), user.getAvatarUrl(), user.getRole(),
+                user.getOauthProvider(), user.getOauthId(), user.getOauthUsername(), user.getIsActive(),
+                user.getCreatedAt(), user.getUpdatedAt(), new ArrayList<>(user.getProjectMemberships()),
+                user.isOAuthUser(), user.getDisplayName());
+        }
+    }
+}
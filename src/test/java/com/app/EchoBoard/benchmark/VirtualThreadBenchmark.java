@@ -0,0 +1,194 @@
+package com.app.echoboard.benchmark;
+
+import com.app.echoboard.EchoboardApplication;
+import com.app.echoboard.datasource.DataSourceGate;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Request execution benchmark
+ * Platform thread pool vs. virtual threads behind the database concurrency gate, with a slow-query workload
+ * (many clients hitting a 50 ms query) next to a few clients hitting an endpoint that never touches the database
+ * Run with: mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+public class VirtualThreadBenchmark {
+
+    private static final int SLOW_CLIENTS = 400;
+    private static final int FAST_CLIENTS = 20;
+    private static final long QUERY_MILLIS = 50;
+    private static final int TOMCAT_THREADS = 50;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        print("platform", platform);
+        print("virtual", virtual);
+
+        assertThat(virtual.slowCompleted()).isPositive();
+        assertThat(platform.slowCompleted()).isPositive();
+    }
+
+    /**
+     * H2 alias target for the slow query (SELECT BENCH_PAUSE(?))
+     */
+    public static int pause(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return 1;
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EchoboardApplication.class, BenchmarkEndpoints.class)
+                .profiles("test")
+                .properties(
+                    "server.port=0",
+                    "spring.datasource.url=jdbc:h2:mem:vtbench-" + mode,
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                    "echoboard.datasource.gate.max-concurrency=10",
+                    "echoboard.datasource.gate.acquire-timeout=30s")
+                .run()) {
+            context.getBean(JdbcTemplate.class).execute(
+                "CREATE ALIAS IF NOT EXISTS BENCH_PAUSE FOR '" + VirtualThreadBenchmark.class.getName() + ".pause'");
+            DataSourceGate gate = context.getBean(DataSourceGate.class);
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI slow = URI.create("http://localhost:" + port + "/bench/slow");
+            URI fast = URI.create("http://localhost:" + port + "/bench/fast");
+
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+            long measureStart = System.nanoTime() + WARMUP.toNanos();
+            long end = measureStart + MEASURE.toNanos();
+            ConcurrentLinkedQueue<Long> slowLatencies = new ConcurrentLinkedQueue<>();
+            ConcurrentLinkedQueue<Long> fastLatencies = new ConcurrentLinkedQueue<>();
+            AtomicLong errors = new AtomicLong();
+            AtomicLong maxWaiting = new AtomicLong();
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < SLOW_CLIENTS; i++) {
+                    clients.submit(() -> drive(client, slow, measureStart, end, slowLatencies, errors));
+                }
+                for (int i = 0; i < FAST_CLIENTS; i++) {
+                    clients.submit(() -> drive(client, fast, measureStart, end, fastLatencies, errors));
+                }
+                clients.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        maxWaiting.accumulateAndGet(gate.waiting(), Math::max);
+                        Thread.sleep(10);
+                    }
+                    return null;
+                });
+            }
+
+            return new Result(sorted(slowLatencies), sorted(fastLatencies), errors.get(), maxWaiting.get());
+        }
+    }
+
+    /**
+     * Closed loop: each client sends its next request as soon as the previous one completes
+     */
+    private Void drive(HttpClient client, URI uri, long measureStart, long end,
+                       ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        while (System.nanoTime() < end) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                long elapsed = System.nanoTime() - start;
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                } else if (start >= measureStart) {
+                    latencies.add(elapsed);
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    private static long[] sorted(ConcurrentLinkedQueue<Long> latencies) {
+        long[] values = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(values);
+        return values;
+    }
+
+    private static void print(String mode, Result result) {
+        double seconds = MEASURE.toMillis() / 1000.0;
+        System.out.printf("[VirtualThreadBenchmark] %-8s slow: %7.1f req/s p50 %7.1f ms p99 %7.1f ms | fast: %8.1f req/s p50 %6.2f ms p99 %7.2f ms | errors %d, max gate waiters %d%n",
+            mode,
+            result.slow().length / seconds, percentile(result.slow(), 0.50), percentile(result.slow(), 0.99),
+            result.fast().length / seconds, percentile(result.fast(), 0.50), percentile(result.fast(), 0.99),
+            result.errors(), result.maxWaiting());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    private record Result(long[] slow, long[] fast, long errors, long maxWaiting) {
+        long slowCompleted() {
+            return slow.length;
+        }
+    }
+
+    /**
+     * Benchmark-only endpoints: one gated slow query, one pure CPU response
+     */
+    @RestController
+    static class BenchmarkEndpoints {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        BenchmarkEndpoints(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping("/bench/slow")
+        Integer slow() {
+            return jdbcTemplate.queryForObject("SELECT BENCH_PAUSE(?)", Integer.class, QUERY_MILLIS);
+        }
+
+        @GetMapping("/bench/fast")
+        List<Integer> fast() {
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                values.add(i * i);
+            }
+            return values;
+        }
+    }
+}
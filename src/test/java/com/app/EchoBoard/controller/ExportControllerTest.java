@@ -0,0 +1,114 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import com.app.echoboard.service.ExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * NDJSON 导出测试
+ * 异步流式输出每行一个JSON对象；导出过程中持久化上下文不随行数增长
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:export")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExportControllerTest {
+
+    private static final int USERS = 1200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new User("export" + i + "@echoboard.com", "Export User " + i, Role.values()[i % 4]));
+        }
+        userRepository.saveAll(users);
+    }
+
+    @Test
+    void testUsersExportIsLineDelimitedJson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/export/users"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        // 每个用户一行，每行是独立的JSON对象，按ID排序
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(USERS);
+        long previousId = 0;
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            assertThat(row.get("email").asText()).startsWith("export");
+            assertThat(row.get("id").asLong()).isGreaterThan(previousId);
+            previousId = row.get("id").asLong();
+        }
+    }
+
+    @Test
+    void testExportedUsersAreDetached() throws Exception {
+        // 每写一行检查一次当前事务的持久化上下文：写完的用户已被分离，托管实体数不随行数增长
+        AtomicInteger maxManaged = new AtomicInteger();
+        AtomicInteger lines = new AtomicInteger();
+        OutputStream probe = new OutputStream() {
+            @Override
+            public void write(int b) {
+                if (b == '\n') {
+                    lines.incrementAndGet();
+                }
+                int managed = entityManager.unwrap(SessionImplementor.class)
+                    .getPersistenceContextInternal().getNumberOfManagedEntities();
+                maxManaged.accumulateAndGet(managed, Math::max);
+            }
+        };
+
+        assertThat(exportService.exportUsers(probe)).isEqualTo(USERS);
+        assertThat(lines.get()).isEqualTo(USERS);
+        assertThat(maxManaged.get()).isLessThanOrEqualTo(1);
+    }
+}
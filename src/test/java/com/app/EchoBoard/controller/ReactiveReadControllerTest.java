@@ -0,0 +1,142 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.ProjectMemberRepository;
+import com.app.echoboard.repository.ProjectRepository;
+import com.app.echoboard.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 响应式只读接口测试
+ * 通过 R2DBC 读取与 JPA 相同的内嵌 H2 数据库
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:reactiveread")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveReadControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        projectMemberRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(new User("owner@reactive.com", "Owner", Role.PRODUCT_OWNER));
+        project = projectRepository.save(new Project("Reactive Project", null, owner));
+        projectMemberRepository.save(new ProjectMember(project, owner, Role.PRODUCT_OWNER));
+        for (int i = 0; i < 3; i++) {
+            User dev = userRepository.save(new User("dev" + i + "@reactive.com", "Developer " + i, Role.DEVELOPER));
+            projectMemberRepository.save(new ProjectMember(project, dev, Role.DEVELOPER, owner));
+        }
+        // 已离开的成员不应出现在结果中
+        User left = userRepository.save(new User("left@reactive.com", "Left", Role.DEVELOPER));
+        ProjectMember leftMember = new ProjectMember(project, left, Role.DEVELOPER);
+        leftMember.setStatus(ProjectMember.MemberStatus.LEFT);
+        projectMemberRepository.save(leftMember);
+    }
+
+    @Test
+    void testUserLookups() throws Exception {
+        MvcResult byId = mockMvc.perform(get("/api/reactive/users/{id}", owner.getId()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(byId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value("owner@reactive.com"))
+            .andExpect(jsonPath("$.role").value("PRODUCT_OWNER"));
+
+        MvcResult byEmail = mockMvc.perform(get("/api/reactive/users/email/{email}", "dev1@reactive.com")).andReturn();
+        mockMvc.perform(asyncDispatch(byEmail))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Developer 1"));
+
+        // 不存在的用户返回404
+        MvcResult missing = mockMvc.perform(get("/api/reactive/users/{id}", Long.MAX_VALUE)).andReturn();
+        mockMvc.perform(asyncDispatch(missing))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testListsStreamAsNdjson() throws Exception {
+        // 按角色分页：after 为上一页最后一个ID
+        List<JsonNode> firstPage = stream("/api/reactive/users/role/DEVELOPER?size=2");
+        assertThat(firstPage).hasSize(2);
+        long lastId = firstPage.get(1).get("id").asLong();
+        List<JsonNode> secondPage = stream("/api/reactive/users/role/DEVELOPER?size=2&after=" + lastId);
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage.get(0).get("id").asLong()).isGreaterThan(lastId);
+
+        // 项目活跃成员（不含已离开的成员）
+        List<JsonNode> users = stream("/api/reactive/projects/" + project.getId() + "/users");
+        assertThat(users).extracting(node -> node.get("email").asText())
+            .hasSize(4)
+            .doesNotContain("left@reactive.com");
+
+        // 最近加入的成员，按加入时间倒序
+        List<JsonNode> recent = stream("/api/reactive/projects/" + project.getId() + "/members/recent?size=2");
+        assertThat(recent).hasSize(2);
+        assertThat(LocalDateTime.parse(recent.get(0).get("joinedAt").asText()))
+            .isAfterOrEqualTo(LocalDateTime.parse(recent.get(1).get("joinedAt").asText()));
+        assertThat(recent.get(0).get("userName").asText()).startsWith("Developer");
+    }
+
+    private List<JsonNode> stream(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.echoboard.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 搜索分页参数校验测试
+ * 超出结果窗口的分页返回400，包括 (page + 1) * size 超出 int 范围的情况
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:searchpaging")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testPageWithinWindow() throws Exception {
+        mockMvc.perform(get("/api/search/users").param("q", "ada").param("page", "0").param("size", "20"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPageBeyondWindowIsRejected() throws Exception {
+        mockMvc.perform(get("/api/search/users").param("q", "ada").param("page", "1000").param("size", "20"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void testHugePageDoesNotOverflow() throws Exception {
+        // (page + 1) * size 在 int 中溢出为负数，不能绕过窗口检查
+        mockMvc.perform(get("/api/search/projects").param("q", "ada")
+                .param("page", String.valueOf(Integer.MAX_VALUE)).param("size", "1"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/search/users").param("q", "ada")
+                .param("page", String.valueOf(Integer.MAX_VALUE / 2)).param("size", "4"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,72 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 列表接口内容协商测试
+ * 同一页数据可按 JSON、CBOR 或 Smile 返回
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:negotiation")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        for (int i = 0; i < 5; i++) {
+            userRepository.save(new User("encoded" + i + "@echoboard.com", "Encoded User " + i, Role.DEVELOPER));
+        }
+    }
+
+    @Test
+    void testListPageInBinaryEncodings() throws Exception {
+        // 默认仍为 JSON
+        mockMvc.perform(get("/api/users/active"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        byte[] cbor = mockMvc.perform(get("/api/users/active").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+        JsonNode cborPage = new CBORMapper().readTree(cbor);
+        assertThat(cborPage.get("items")).hasSize(5);
+        assertThat(cborPage.get("items").get(0).get("email").asText()).startsWith("encoded");
+
+        byte[] smile = mockMvc.perform(get("/api/users/role/{role}", Role.DEVELOPER).accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(SMILE))
+            .andReturn().getResponse().getContentAsByteArray();
+        JsonNode smilePage = new SmileMapper().readTree(smile);
+        assertThat(smilePage.get("items")).hasSize(5);
+        // 日期格式与 JSON 响应一致
+        assertThat(smilePage.get("items").get(0).get("createdAt").isTextual()).isTrue();
+    }
+}
@@ -0,0 +1,63 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 批量注册并发冲突测试
+ * 重复检查之后才被其他请求注册的邮箱，插入时触发唯一约束，应返回409而不是500
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:registrationrace")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerRegistrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentDuplicateReturnsConflict() throws Exception {
+        userRepository.save(new User("race@echoboard.com", "Race Winner", Role.DEVELOPER));
+        // 模拟竞争：重复检查时另一请求尚未提交，查不到已存在的邮箱
+        doReturn(List.of()).when(userRepository).findExistingEmails(any());
+
+        mockMvc.perform(post("/api/users/register/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [{"email": "fresh@echoboard.com", "name": "Fresh User", "role": "DESIGNER"},
+                     {"email": "race@echoboard.com", "name": "Race Loser", "role": "DEVELOPER"}]
+                    """))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.success").value(false));
+
+        // 整批回滚，未冲突的用户也没有写入
+        assertThat(userRepository.findByEmail("fresh@echoboard.com")).isEmpty();
+    }
+}
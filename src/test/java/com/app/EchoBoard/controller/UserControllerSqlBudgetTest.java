@@ -0,0 +1,131 @@
+package com.app.echoboard.controller;
+
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.monitoring.SqlStatementBudgetFilter;
+import com.app.echoboard.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL 语句预算测试
+ * 每个用户查询接口的语句数量不得超过预算（防止 N+1 回归）
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sqlbudget")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User developer;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        developer = userRepository.save(new User("budget-dev@echoboard.com", "Budget Developer", Role.DEVELOPER));
+        for (int i = 0; i < 20; i++) {
+            userRepository.save(new User("budget" + i + "@echoboard.com", "Budget User " + i, Role.values()[i % 4]));
+        }
+    }
+
+    @Test
+    void testGetUserById() throws Exception {
+        // 版本查询 + 实体加载
+        mockMvc.perform(get("/api/users/{id}", developer.getId()))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(2));
+    }
+
+    @Test
+    void testGetUserByEmail() throws Exception {
+        // 版本查询 + 实体加载
+        mockMvc.perform(get("/api/users/email/{email}", developer.getEmail()))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(2));
+    }
+
+    @Test
+    void testConditionalGetOnlyQueriesVersion() throws Exception {
+        String etag = mockMvc.perform(get("/api/users/{id}", developer.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // ETag 匹配：304，只执行版本查询
+        mockMvc.perform(get("/api/users/{id}", developer.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(statementsAtMost(1));
+
+        // 完整响应来自序列化缓存，同样只执行版本查询
+        mockMvc.perform(get("/api/users/{id}", developer.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value(developer.getEmail()))
+            .andExpect(statementsAtMost(1));
+
+        // 更新后 ETag 改变
+        developer.setName("Renamed Developer");
+        userRepository.save(developer);
+        mockMvc.perform(get("/api/users/{id}", developer.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Renamed Developer"))
+            .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void testListPagesRunOneQuery() throws Exception {
+        mockMvc.perform(get("/api/users/role/{role}", Role.DEVELOPER).param("size", "50"))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+        mockMvc.perform(get("/api/users/active").param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    void testBatchRegistrationStatementsDoNotGrowPerUser() throws Exception {
+        StringBuilder payload = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            payload.append(i == 0 ? "" : ",")
+                .append("{\"email\": \"batch").append(i).append("@echoboard.com\", \"name\": \"Batch User ").append(i)
+                .append("\", \"role\": \"DEVELOPER\"}");
+        }
+        payload.append("]");
+
+        // 重复检查 + 序列 + 批量插入；提交后的用户事件不得为每个新用户查询成员关系
+        mockMvc.perform(post("/api/users/register/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.message").value("200 of 200 users registered!"))
+            .andExpect(statementsAtMost(10));
+    }
+
+    private static ResultMatcher statementsAtMost(int budget) {
+        return result -> assertThat((Integer) result.getRequest().getAttribute(SqlStatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE))
+            .as("SQL statements for %s", result.getRequest().getRequestURI())
+            .isNotNull()
+            .isLessThanOrEqualTo(budget);
+    }
+}
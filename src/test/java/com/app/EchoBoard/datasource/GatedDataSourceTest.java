@@ -0,0 +1,50 @@
+package com.app.echoboard.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GatedDataSource unit tests
+ */
+class GatedDataSourceTest {
+
+    private final DataSourceGate gate = new DataSourceGate(2, Duration.ofMillis(50));
+    private final GatedDataSource dataSource = new GatedDataSource(h2(), gate);
+
+    @Test
+    void testPermitHeldUntilConnectionClosed() throws Exception {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertThat(gate.inUse()).isEqualTo(2);
+
+        // 许可用尽：第三个请求超时失败
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(gate.inUse()).isEqualTo(2);
+
+        // 重复关闭只归还一次许可
+        first.close();
+        first.close();
+        assertThat(gate.inUse()).isEqualTo(1);
+
+        try (Connection third = dataSource.getConnection()) {
+            assertThat(third.createStatement().executeQuery("SELECT 1").next()).isTrue();
+            assertThat(gate.inUse()).isEqualTo(2);
+        }
+        second.close();
+        assertThat(gate.inUse()).isZero();
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:gate;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,86 @@
+package com.app.echoboard.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 读写分离路由测试
+ * 两个 H2 内存库分别充当主库和副本，另配置一个不可达的副本
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:rwprimary",
+    "echoboard.datasource.routing.enabled=true",
+    "echoboard.datasource.routing.replicas[0].url=jdbc:h2:tcp://localhost:1/unreachable",
+    "echoboard.datasource.routing.replicas[1].url=" + ReplicaRoutingTest.REPLICA_URL,
+    "echoboard.datasource.routing.replica-timeout=500ms",
+    "echoboard.datasource.routing.read-your-writes-window=1m"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:rwreplica;DB_CLOSE_DELAY=-1";
+
+    static {
+        // 副本与主库使用相同的表结构
+        Flyway.configure()
+            .dataSource(REPLICA_URL, "sa", "")
+            .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+            .load()
+            .migrate();
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseHealthyReplica() {
+        // 不可达的副本被健康检查标记为下线
+        assertThat(routingDataSource.healthyReplicas()).isEqualTo(1);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(database(true)).isEqualTo("RWREPLICA");
+        }
+        assertThat(database(false)).isEqualTo("RWPRIMARY");
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).isEqualTo("RWPRIMARY");
+    }
+
+    @Test
+    void testReadYourWritesPinsClientToPrimary() {
+        ReadYourWrites.bind("client:writer");
+        assertThat(database(true)).isEqualTo("RWREPLICA");
+
+        // 写事务提交后，该客户端的读请求留在主库
+        database(false);
+        assertThat(database(true)).isEqualTo("RWPRIMARY");
+
+        // 其他客户端不受影响
+        ReadYourWrites.bind("client:reader");
+        assertThat(database(true)).isEqualTo("RWREPLICA");
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
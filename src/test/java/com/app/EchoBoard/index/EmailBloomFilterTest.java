@@ -0,0 +1,50 @@
+package com.app.echoboard.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmailBloomFilter unit tests
+ */
+class EmailBloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@echoboard.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@echoboard.com")).isTrue();
+        }
+    }
+
+    @Test
+    void testNormalizedLookup() {
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.01);
+        filter.put("Designer@EchoBoard.com");
+
+        assertThat(filter.mightContain(" designer@echoboard.com ")).isTrue();
+    }
+
+    @Test
+    void testFalsePositiveRateNearTarget() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member" + i + "@echoboard.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("stranger" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+
+        // Target is 1%, allow some slack for hash variance
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.echoboard.index;
+
+import com.app.echoboard.dto.MentionSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MentionIndex unit tests
+ */
+class MentionIndexTest {
+
+    private static final MentionSuggestion ADA = new MentionSuggestion(1L, "Ada Lovelace", "ada-l");
+    private static final MentionSuggestion ALAN = new MentionSuggestion(2L, "Alan Turing", "aturing");
+    private static final MentionSuggestion GRACE = new MentionSuggestion(3L, "Grace Hopper", null);
+
+    @Test
+    void testPrefixLookupByNameWordAndUsername() {
+        MentionIndex index = new MentionIndex();
+        index.addMember(1L, ADA);
+        index.addMember(1L, ALAN);
+        index.addMember(2L, GRACE);
+
+        assertThat(index.lookup(1L, "a", 10)).containsExactly(ADA, ALAN);
+        // 姓氏、OAuth用户名都可以匹配，前导@忽略
+        assertThat(index.lookup(1L, "@Tur", 10)).containsExactly(ALAN);
+        assertThat(index.lookup(1L, "ada-", 10)).containsExactly(ADA);
+        // 只返回本项目成员
+        assertThat(index.lookup(1L, "grace", 10)).isEmpty();
+        assertThat(index.lookup(1L, "", 1)).containsExactly(ADA);
+    }
+
+    @Test
+    void testMembershipAndUserChanges() {
+        MentionIndex index = new MentionIndex();
+        index.stage(1L, ADA);
+        index.stage(2L, ADA);
+        index.stage(1L, ALAN);
+        index.publishAll();
+
+        // 改名后两个项目都更新
+        assertThat(index.updateUser(new MentionSuggestion(1L, "Augusta King", "ada-l"))).isTrue();
+        assertThat(index.lookup(2L, "king", 10)).extracting(MentionSuggestion::userId).containsExactly(1L);
+        assertThat(index.lookup(1L, "lovelace", 10)).isEmpty();
+        assertThat(index.updateUser(GRACE)).isFalse();
+
+        index.removeMember(1L, 2L);
+        assertThat(index.lookup(1L, "alan", 10)).isEmpty();
+
+        index.removeUser(1L);
+        assertThat(index.lookup(1L, "", 10)).isEmpty();
+        assertThat(index.projectCount()).isZero();
+    }
+
+    @Test
+    void testReactivatedUserIsAddedBack() {
+        MentionIndex index = new MentionIndex();
+        index.stage(1L, ADA);
+        index.stage(2L, ADA);
+        index.publishAll();
+
+        // 停用后从所有项目移除
+        index.removeUser(1L);
+        assertThat(index.containsUser(1L)).isFalse();
+
+        // 重新激活：按其活跃项目重新加入，并使用最新的名字
+        MentionSuggestion renamed = new MentionSuggestion(1L, "Augusta King", "ada-l");
+        index.addUser(renamed, List.of(1L, 2L));
+        assertThat(index.containsUser(1L)).isTrue();
+        assertThat(index.lookup(1L, "king", 10)).containsExactly(renamed);
+        assertThat(index.lookup(2L, "ada-", 10)).containsExactly(renamed);
+    }
+
+    @Test
+    void testUsersWithoutMembershipsStayKnown() {
+        MentionIndex index = new MentionIndex();
+
+        // 新用户没有任何成员关系，也会被记录，之后的更新无需再查数据库
+        index.addUser(GRACE, List.of());
+        assertThat(index.containsUser(3L)).isTrue();
+        assertThat(index.updateUser(new MentionSuggestion(3L, "Grace Brewster", null))).isTrue();
+        assertThat(index.projectCount()).isZero();
+
+        // 失去最后一个成员关系后仍然已知
+        index.addMember(1L, ALAN);
+        index.removeMember(1L, 2L);
+        assertThat(index.containsUser(2L)).isTrue();
+        assertThat(index.lookup(1L, "alan", 10)).isEmpty();
+
+        // 之后加入项目时使用最新的名字
+        index.addMember(2L, new MentionSuggestion(3L, "Grace Brewster", null));
+        assertThat(index.lookup(2L, "brew", 10)).extracting(MentionSuggestion::userId).containsExactly(3L);
+
+        index.removeUser(3L);
+        assertThat(index.containsUser(3L)).isFalse();
+    }
+}
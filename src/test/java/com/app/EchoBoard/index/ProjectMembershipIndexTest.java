@@ -0,0 +1,42 @@
+package com.app.echoboard.index;
+
+import com.app.echoboard.model.Role;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProjectMembershipIndex unit tests
+ */
+class ProjectMembershipIndexTest {
+
+    @Test
+    void testRoleChangeAndLeave() {
+        ProjectMembershipIndex index = new ProjectMembershipIndex();
+        index.apply(1L, 10L, Role.DEVELOPER);
+
+        assertThat(index.activeRole(1L, 10L)).isEqualTo(Role.DEVELOPER);
+        assertThat(index.isActiveMember(2L, 10L)).isFalse();
+
+        // 角色变更：只保留新角色
+        index.apply(1L, 10L, Role.PRODUCT_OWNER);
+        assertThat(index.hasRole(1L, 10L, Role.DEVELOPER)).isFalse();
+        assertThat(index.hasRole(1L, 10L, Role.PRODUCT_OWNER)).isTrue();
+
+        // 离开项目
+        index.apply(1L, 10L, null);
+        assertThat(index.isActiveMember(1L, 10L)).isFalse();
+    }
+
+    @Test
+    void testRemoveProject() {
+        ProjectMembershipIndex index = new ProjectMembershipIndex();
+        index.apply(1L, 10L, Role.DESIGNER);
+        index.apply(1L, 11L, Role.STAKEHOLDER);
+
+        index.removeProject(1L);
+
+        assertThat(index.isActiveMember(1L, 10L)).isFalse();
+        assertThat(index.isActiveMember(1L, 11L)).isFalse();
+    }
+}
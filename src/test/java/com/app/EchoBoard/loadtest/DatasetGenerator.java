@@ -0,0 +1,241 @@
+package com.app.echoboard.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic dataset generator
+ * Inserts users, projects, memberships and member stats through JDBC batches with
+ * production-like distributions: most projects are small teams, a few public projects are large
+ * (Pareto-distributed sizes), and roles/statuses follow fixed weights. Deterministic for a given seed
+ */
+class DatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int PROJECT_CHUNK = 1_000;
+    private static final int DEFAULT_MAX_MEMBERS = 10;
+
+    // Pareto shape for project sizes: lower is more skewed
+    private static final double SIZE_SHAPE = 1.3;
+
+    static final String[] ROLES = {"DEVELOPER", "DESIGNER", "PRODUCT_OWNER", "STAKEHOLDER"};
+    private static final double[] ROLE_WEIGHTS = {0.45, 0.25, 0.20, 0.10};
+
+    private static final String[] MEMBER_STATUSES = {"ACTIVE", "LEFT", "SUSPENDED"};
+    private static final double[] MEMBER_STATUS_WEIGHTS = {0.85, 0.10, 0.05};
+
+    private static final String[] PROJECT_STATUSES = {"ACTIVE", "ARCHIVED", "DELETED"};
+    private static final double[] PROJECT_STATUS_WEIGHTS = {0.80, 0.17, 0.03};
+
+    private static final String[] OAUTH_PROVIDERS = {null, "github", "google", "figma"};
+    private static final double[] OAUTH_PROVIDER_WEIGHTS = {0.40, 0.36, 0.15, 0.09};
+
+    static final String[] FIRST_NAMES = {
+        "Ada", "Alan", "Grace", "Linus", "Margaret", "Dennis", "Barbara", "Ken", "Frances", "Edsger",
+        "Radia", "Tim", "Hedy", "Donald", "Katherine", "John", "Sophie", "Guido", "Anita", "Bjarne"
+    };
+    private static final String[] LAST_NAMES = {
+        "Lovelace", "Turing", "Hopper", "Torvalds", "Hamilton", "Ritchie", "Liskov", "Thompson", "Allen", "Dijkstra",
+        "Perlman", "Berners-Lee", "Lamarr", "Knuth", "Johnson", "Backus", "Wilson", "van Rossum", "Borg", "Stroustrup"
+    };
+    static final String[] PROJECT_WORDS = {
+        "Atlas", "Beacon", "Canvas", "Delta", "Ember", "Falcon", "Garnet", "Harbor", "Indigo", "Juniper",
+        "Kestrel", "Lantern", "Meadow", "Nebula", "Orchid", "Pioneer", "Quartz", "Raven", "Summit", "Tundra"
+    };
+    private static final String[] PROJECT_TOPICS = {
+        "onboarding flow", "checkout redesign", "design system", "mobile app", "analytics dashboard",
+        "billing page", "settings screen", "search experience", "notification center", "landing page"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestOptions options;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    DatasetGenerator(JdbcTemplate jdbcTemplate, LoadTestOptions options) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.options = options;
+        this.random = new Random(options.randomSeed());
+    }
+
+    static String email(long userId) {
+        return "user" + userId + "@loadtest.echoboard.com";
+    }
+
+    void generate() {
+        long start = System.currentTimeMillis();
+        insertUsers();
+        long memberships = insertProjectsAndMembers(projectSizes());
+
+        // Move the pooled-lo sequences past the generated IDs
+        jdbcTemplate.execute("ALTER SEQUENCE users_seq RESTART WITH " + (options.users() + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE projects_seq RESTART WITH " + (options.projects() + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE project_members_seq RESTART WITH " + (memberships + 1));
+
+        log.info("Generated {} users, {} projects, {} memberships in {} s",
+            options.users(), options.projects(), memberships, (System.currentTimeMillis() - start) / 1000);
+    }
+
+    private void insertUsers() {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= options.users(); id++) {
+            String first = pick(FIRST_NAMES);
+            String last = pick(LAST_NAMES);
+            String provider = pick(OAUTH_PROVIDERS, OAUTH_PROVIDER_WEIGHTS);
+            batch.add(new Object[]{
+                id, email(id), first + " " + last, pick(ROLES, ROLE_WEIGHTS),
+                provider, provider != null ? String.valueOf(id) : null,
+                provider != null ? (first + last).toLowerCase().replace(" ", "") + id : null,
+                random.nextDouble() < 0.95, timestamp(now.minusDays(random.nextInt(730)))
+            });
+            if (batch.size() == BATCH_SIZE) {
+                flushUsers(batch);
+                log.info("Users: {}/{}", id, options.users());
+            }
+        }
+        flushUsers(batch);
+    }
+
+    private void flushUsers(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, name, role, oauth_provider, oauth_id, oauth_username, " +
+            "is_active, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    /**
+     * Pareto-distributed sizes scaled to the requested total, each between 1 and the user count
+     */
+    private int[] projectSizes() {
+        double[] weights = new double[options.projects()];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.pow(1 - random.nextDouble(), -1 / SIZE_SHAPE);
+            sum += weights[i];
+        }
+        int[] sizes = new int[weights.length];
+        for (int i = 0; i < sizes.length; i++) {
+            long size = Math.round(options.memberships() * weights[i] / sum);
+            sizes[i] = (int) Math.max(1, Math.min(options.users(), size));
+        }
+        return sizes;
+    }
+
+    private long insertProjectsAndMembers(int[] sizes) {
+        List<Object[]> projects = new ArrayList<>(PROJECT_CHUNK);
+        List<Object[]> members = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> stats = new ArrayList<>(PROJECT_CHUNK);
+        long memberId = 0;
+        int step = coprimeStep(options.users());
+
+        for (int p = 1; p <= sizes.length; p++) {
+            int size = sizes[p - 1];
+            long creator = 1 + random.nextInt(options.users());
+            LocalDateTime createdAt = now.minusDays(1 + random.nextInt(365));
+            boolean large = size > DEFAULT_MAX_MEMBERS;
+            Integer maxMembers = large ? null : DEFAULT_MAX_MEMBERS;
+
+            int[] roleCounts = new int[ROLES.length];
+            int active = 0;
+            LocalDateTime lastJoined = null;
+            List<Object[]> projectMembers = new ArrayList<>(size);
+            for (int k = 0; k < size; k++) {
+                // Distinct users per project: walk the user IDs with a step coprime to the user count
+                long userId = (creator - 1 + (long) k * step) % options.users() + 1;
+                int role = k == 0 ? 2 : index(ROLE_WEIGHTS);
+                String status = k == 0 ? "ACTIVE" : pick(MEMBER_STATUSES, MEMBER_STATUS_WEIGHTS);
+                LocalDateTime joinedAt = createdAt.plusMinutes(random.nextInt(60 * 24 * 180));
+                boolean invited = k > 0 && random.nextDouble() < 0.4;
+                projectMembers.add(new Object[]{
+                    ++memberId, (long) p, userId, ROLES[role], status,
+                    k == 0 ? "DIRECT" : invited ? "INVITED" : random.nextDouble() < 0.15 ? "OAUTH_SYNC" : "DIRECT",
+                    invited ? creator : null, timestamp(joinedAt),
+                    "LEFT".equals(status) ? timestamp(joinedAt.plusDays(1 + random.nextInt(60))) : null
+                });
+                if ("ACTIVE".equals(status)) {
+                    active++;
+                    roleCounts[role]++;
+                    lastJoined = lastJoined == null || joinedAt.isAfter(lastJoined) ? joinedAt : lastJoined;
+                }
+            }
+
+            // Projects with more members than the default limit are public and unlimited
+            projects.add(new Object[]{
+                (long) p, pick(PROJECT_WORDS) + " " + pick(PROJECT_WORDS) + " " + p,
+                "The " + pick(PROJECT_TOPICS) + " for " + pick(PROJECT_WORDS),
+                pick(PROJECT_STATUSES, PROJECT_STATUS_WEIGHTS), creator, large || random.nextDouble() < 0.05,
+                maxMembers, active, timestamp(createdAt)
+            });
+            stats.add(new Object[]{
+                (long) p, roleCounts[0], roleCounts[1], roleCounts[2], roleCounts[3],
+                lastJoined != null ? timestamp(lastJoined) : null,
+                maxMembers == null ? Integer.MAX_VALUE : Math.max(0, maxMembers - active)
+            });
+            members.addAll(projectMembers);
+
+            if (projects.size() == PROJECT_CHUNK || p == sizes.length) {
+                flushProjects(projects, members, stats);
+                log.info("Projects: {}/{}, memberships: {}", p, sizes.length, memberId);
+            }
+        }
+        return memberId;
+    }
+
+    private void flushProjects(List<Object[]> projects, List<Object[]> members, List<Object[]> stats) {
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, name, description, status, created_by, is_public, max_members, " +
+            "active_member_count, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", projects);
+        for (int from = 0; from < members.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate("INSERT INTO project_members (id, project_id, user_id, project_role, status, join_method, " +
+                "invited_by, joined_at, left_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                members.subList(from, Math.min(members.size(), from + BATCH_SIZE)));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO project_member_stats (project_id, developer_count, designer_count, " +
+            "product_owner_count, stakeholder_count, last_joined_at, spare_capacity) VALUES (?, ?, ?, ?, ?, ?, ?)", stats);
+        projects.clear();
+        members.clear();
+        stats.clear();
+    }
+
+    private static int coprimeStep(int users) {
+        int step = 7919;
+        while (gcd(step, users) != 1) {
+            step++;
+        }
+        return step % users == 0 ? 1 : step;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String pick(String[] values, double[] weights) {
+        return values[index(weights)];
+    }
+
+    private int index(double[] weights) {
+        double r = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+}
@@ -0,0 +1,13 @@
+package com.app.echoboard.loadtest;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * One endpoint in the request mix
+ * @param name label used in the report
+ * @param weight relative share of requests
+ * @param path produces a request path (and query) for each request
+ */
+record Endpoint(String name, int weight, Function<SplittableRandom, String> path) {
+}
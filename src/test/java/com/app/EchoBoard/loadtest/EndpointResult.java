@@ -0,0 +1,16 @@
+package com.app.echoboard.loadtest;
+
+/**
+ * Measured results of one endpoint (latencies in milliseconds, from scheduled start)
+ */
+record EndpointResult(
+        String endpoint,
+        long requests,
+        long errors,
+        double throughput,
+        double p50,
+        double p95,
+        double p99,
+        double p999,
+        double max) {
+}
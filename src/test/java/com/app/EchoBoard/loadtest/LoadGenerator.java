@@ -0,0 +1,162 @@
+package com.app.echoboard.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator
+ * Requests are scheduled at a fixed rate whether or not earlier ones have finished, and latency is
+ * measured from the scheduled start, so queueing behind a slow server counts against it
+ * (no coordinated omission). At most `clients` requests are in flight; the rest wait their turn
+ */
+class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final URI baseUri;
+    private final List<Endpoint> endpoints;
+    private final LoadTestOptions options;
+    private final int totalWeight;
+
+    LoadGenerator(URI baseUri, List<Endpoint> endpoints, LoadTestOptions options) {
+        this.baseUri = baseUri;
+        this.endpoints = endpoints;
+        this.options = options;
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    }
+
+    /**
+     * Run warmup then the measured phase
+     * @return results per endpoint name, in mix order
+     */
+    Map<String, EndpointResult> run() {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> recorders.put(endpoint.name(), new Recorder()));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // The client keeps its own executor: closing ours must not cut off responses still in flight
+            HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            Semaphore inFlight = new Semaphore(options.clients());
+            SplittableRandom random = new SplittableRandom(options.randomSeed());
+
+            log.info("Warming up for {} at {} req/s", options.warmup(), options.rate());
+            try (ExecutorService warmup = Executors.newVirtualThreadPerTaskExecutor()) {
+                drive(client, warmup, inFlight, random, options.warmup(), null);
+            } // drain warmup requests, so none of them holds an in-flight permit while measuring
+
+            log.info("Measuring for {} at {} req/s with up to {} requests in flight",
+                options.duration(), options.rate(), options.clients());
+            drive(client, executor, inFlight, random, options.duration(), recorders);
+        } // closing the executor waits for outstanding requests
+
+        Map<String, EndpointResult> results = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> results.put(name, recorder.result(name, options.duration())));
+        return results;
+    }
+
+    private void drive(HttpClient client, ExecutorService executor, Semaphore inFlight, SplittableRandom random,
+                       Duration phase, Map<String, Recorder> recorders) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long end = start + phase.toNanos();
+
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * interval;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint endpoint = pick(random);
+            URI uri = baseUri.resolve(endpoint.path().apply(random.split()));
+            Recorder recorder = recorders != null ? recorders.get(endpoint.name()) : null;
+            executor.execute(() -> send(client, inFlight, uri, scheduled, recorder));
+        }
+    }
+
+    private void send(HttpClient client, Semaphore inFlight, URI uri, long scheduled, Recorder recorder) {
+        boolean ok;
+        try {
+            inFlight.acquire();
+            try {
+                HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } finally {
+                inFlight.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            ok = false;
+        }
+        if (recorder != null) {
+            recorder.record(System.nanoTime() - scheduled, ok);
+        }
+    }
+
+    private Endpoint pick(SplittableRandom random) {
+        int r = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            r -= endpoint.weight();
+            if (r < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private static final class Recorder {
+
+        private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean ok) {
+            latencies.recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos)));
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        EndpointResult result(String name, Duration duration) {
+            long count = latencies.getTotalCount();
+            return new EndpointResult(
+                name, count, errors.sum(), count / (duration.toNanos() / 1e9),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(95)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
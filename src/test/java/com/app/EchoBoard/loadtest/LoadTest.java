@@ -0,0 +1,110 @@
+package com.app.echoboard.loadtest;
+
+import com.app.echoboard.EchoboardApplication;
+import com.app.echoboard.service.EmailIndexService;
+import com.app.echoboard.service.MentionService;
+import com.app.echoboard.service.PermissionService;
+import com.app.echoboard.service.SearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * End-to-end load test
+ * Starts the application on a random localhost port (in-memory H2 with the test profile, or a local
+ * PostgreSQL with --profile=postgres), optionally generates a synthetic dataset, then drives the REST
+ * endpoints open-loop and reports throughput and p50/p95/p99/p999 latency per endpoint
+ *
+ * Run with: mvn -Ploadtest verify -Dloadtest.args="--users=100000 --projects=10000 --memberships=500000 --rate=1000"
+ */
+public final class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(EchoboardApplication.class)
+            .profiles(options.profile())
+            .properties("server.port=0");
+        if ("test".equals(options.profile())) {
+            builder.properties("spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        }
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            if (options.seed()) {
+                new DatasetGenerator(context.getBean(JdbcTemplate.class), options).generate();
+                // The in-memory indexes were built on an empty database at startup
+                context.getBean(EmailIndexService.class).warmUp();
+                context.getBean(PermissionService.class).rebuild();
+                context.getBean(SearchService.class).load();
+                context.getBean(MentionService.class).rebuild();
+            }
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI baseUri = URI.create("http://localhost:" + port);
+            Map<String, EndpointResult> results = new LoadGenerator(baseUri, endpoints(options), options).run();
+
+            report(results, options);
+        }
+    }
+
+    /**
+     * Request mix: mostly point reads, then typeahead/search, then list pages
+     */
+    private static List<Endpoint> endpoints(LoadTestOptions options) {
+        return List.of(
+            new Endpoint("GET /api/users/{id}", 30,
+                r -> "/api/users/" + (1 + r.nextInt(options.users()))),
+            new Endpoint("GET /api/users/email/{email}", 10,
+                r -> "/api/users/email/" + DatasetGenerator.email(1 + r.nextInt(options.users()))),
+            new Endpoint("GET /api/users/role/{role}", 8,
+                r -> "/api/users/role/" + DatasetGenerator.ROLES[r.nextInt(DatasetGenerator.ROLES.length)] + "?size=50"),
+            new Endpoint("GET /api/users/active", 4,
+                r -> "/api/users/active?size=50"),
+            new Endpoint("GET /api/projects/{id}/mentions", 20,
+                r -> "/api/projects/" + (1 + r.nextInt(options.projects())) + "/mentions?q="
+                    + prefix(DatasetGenerator.FIRST_NAMES[r.nextInt(DatasetGenerator.FIRST_NAMES.length)], r)),
+            new Endpoint("GET /api/search/projects", 16,
+                r -> "/api/search/projects?q="
+                    + prefix(DatasetGenerator.PROJECT_WORDS[r.nextInt(DatasetGenerator.PROJECT_WORDS.length)], r)),
+            new Endpoint("GET /api/search/users", 12,
+                r -> "/api/search/users?q="
+                    + prefix(DatasetGenerator.FIRST_NAMES[r.nextInt(DatasetGenerator.FIRST_NAMES.length)], r)));
+    }
+
+    // What a user has typed so far: 2 characters up to the whole word
+    private static String prefix(String word, SplittableRandom random) {
+        return word.substring(0, 2 + random.nextInt(word.length() - 1)).toLowerCase();
+    }
+
+    private static void report(Map<String, EndpointResult> results, LoadTestOptions options) throws IOException {
+        String header = String.format("%-34s %9s %7s %9s %9s %9s %9s %9s %9s",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms");
+        StringBuilder table = new StringBuilder(header).append('\n');
+        for (EndpointResult r : results.values()) {
+            table.append(String.format("%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                r.endpoint(), r.requests(), r.errors(), r.throughput(), r.p50(), r.p95(), r.p99(), r.p999(), r.max()));
+        }
+        log.info("Load test results ({} at {} req/s):\n{}", options.duration(), options.rate(), table);
+
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(options.report().toFile(), Map.of("options", options.toString(), "results", results.values()));
+        log.info("Report written to {}", options.report().toAbsolutePath());
+    }
+}
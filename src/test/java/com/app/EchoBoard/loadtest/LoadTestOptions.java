@@ -0,0 +1,62 @@
+package com.app.echoboard.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, parsed from --key=value arguments
+ * @param profile Spring profile of the application under test: test (in-memory H2) or postgres (local PostgreSQL)
+ * @param seed whether to generate the dataset first (expects empty tables)
+ * @param rate target requests per second across all endpoints (open loop)
+ * @param clients maximum requests in flight
+ */
+record LoadTestOptions(
+        String profile,
+        boolean seed,
+        int users,
+        int projects,
+        int memberships,
+        long randomSeed,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int clients,
+        Path report) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+            values.getOrDefault("profile", "test"),
+            Boolean.parseBoolean(values.getOrDefault("seed", "true")),
+            Integer.parseInt(values.getOrDefault("users", "1000000")),
+            Integer.parseInt(values.getOrDefault("projects", "100000")),
+            Integer.parseInt(values.getOrDefault("memberships", "5000000")),
+            Long.parseLong(values.getOrDefault("random-seed", "42")),
+            Integer.parseInt(values.getOrDefault("rate", "500")),
+            Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+            Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+            Integer.parseInt(values.getOrDefault("clients", "256")),
+            Path.of(values.getOrDefault("report", "target/loadtest-report.json")));
+
+        if (options.users() < 1 || options.projects() < 1 || options.memberships() < options.projects()) {
+            throw new IllegalArgumentException("Need at least one user, one project and one membership per project");
+        }
+        if (options.rate() < 1 || options.clients() < 1) {
+            throw new IllegalArgumentException("rate and clients must be positive");
+        }
+        if (options.warmup().isNegative() || !options.duration().isPositive()) {
+            throw new IllegalArgumentException("warmup must not be negative and duration must be positive");
+        }
+        return options;
+    }
+}
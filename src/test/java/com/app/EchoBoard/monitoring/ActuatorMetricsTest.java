@@ -0,0 +1,95 @@
+package com.app.echoboard.monitoring;
+
+import com.app.echoboard.repository.ProjectMemberRepository;
+import com.app.echoboard.repository.ProjectRepository;
+import com.app.echoboard.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator 集成测试
+ * /actuator/hibernate 返回统计快照；三个仓库的调用耗时以直方图形式发布到 Prometheus
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:actuator")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class ActuatorMetricsTest {
+
+    private static final String INVOCATIONS = "spring.data.repository.invocations";
+
+    private static final String[] REPOSITORIES = {"UserRepository", "ProjectRepository", "ProjectMemberRepository"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Test
+    void testHibernateEndpointAndRepositoryHistograms() throws Exception {
+        userRepository.count();
+        projectRepository.count();
+        projectMemberRepository.count();
+
+        // 统计已开启，且刚才的查询已计入
+        mockMvc.perform(get("/actuator/hibernate"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enabled").value(true))
+            .andExpect(jsonPath("$.statements.prepared").value(greaterThan(0)))
+            .andExpect(jsonPath("$.entities").exists())
+            .andExpect(jsonPath("$.connectionPool").exists());
+
+        mockMvc.perform(get("/actuator/metrics/" + INVOCATIONS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.availableTags[?(@.tag == 'repository')].values[*]", hasItems(REPOSITORIES)));
+
+        // Prometheus 抓取结果中每个仓库都有直方图桶（而不仅是 count/sum），桶边界覆盖 100us 到 10s
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        for (String repository : REPOSITORIES) {
+            Timer timer = meterRegistry.find(INVOCATIONS)
+                .tag("repository", repository)
+                .tag("method", "count")
+                .timer();
+            assertThat(timer).as(repository).isNotNull();
+            assertThat(timer.takeSnapshot().histogramCounts()).as(repository).isNotEmpty();
+
+            List<String> buckets = scrape.lines()
+                .filter(line -> line.startsWith("spring_data_repository_invocations_seconds_bucket{"))
+                .filter(line -> line.contains("repository=\"" + repository + "\""))
+                .filter(line -> line.contains("method=\"count\""))
+                .toList();
+            assertThat(buckets).as(repository)
+                .anyMatch(line -> line.contains("le=\"1.0E-4\""))
+                .anyMatch(line -> line.contains("le=\"10.0\""))
+                .anyMatch(line -> line.contains("le=\"+Inf\""));
+        }
+    }
+}
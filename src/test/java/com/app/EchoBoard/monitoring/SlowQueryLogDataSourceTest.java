@@ -0,0 +1,87 @@
+package com.app.echoboard.monitoring;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SlowQueryLogDataSource unit tests
+ */
+class SlowQueryLogDataSourceTest {
+
+    private final List<SlowQueryEvent> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testCapturesParametersRowsAndUpdateCounts() throws Exception {
+        SlowQueryProperties properties = new SlowQueryProperties();
+        // 阈值为0：每条语句都被记录
+        properties.setThreshold(Duration.ZERO);
+        SlowQueryLog slowQueryLog = new SlowQueryLog(properties, events::add);
+        SlowQueryLogDataSource dataSource = new SlowQueryLogDataSource(h2("slowlog"), slowQueryLog);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("CREATE TABLE items (id BIGINT, name VARCHAR(50))");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO items VALUES (?, ?)")) {
+                for (long i = 1; i <= 3; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "item-" + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT id FROM items WHERE id > ?")) {
+                select.setLong(1, 1L);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        rows.getLong(1);
+                    }
+                }
+            }
+        }
+        slowQueryLog.close();
+
+        assertThat(events).hasSize(3);
+        SlowQueryEvent batch = events.get(1);
+        assertThat(batch.rows()).isEqualTo(3);
+        assertThat(batch.parameters()).containsExactly(3L, "item-3");
+        SlowQueryEvent query = events.get(2);
+        assertThat(query.sql()).isEqualTo("SELECT id FROM items WHERE id > ?");
+        assertThat(query.rows()).isEqualTo(2);
+        assertThat(query.slow()).isTrue();
+        assertThat(query.caller()).isEqualTo("SlowQueryLogDataSourceTest.testCapturesParametersRowsAndUpdateCounts");
+
+        // 字符串参数默认脱敏
+        assertThat(slowQueryLog.render(batch.parameters())).isEqualTo("[3, '***'(6)]");
+    }
+
+    @Test
+    void testFastStatementsAreNotCaptured() throws Exception {
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMinutes(1));
+        SlowQueryLog slowQueryLog = new SlowQueryLog(properties, events::add);
+        SlowQueryLogDataSource dataSource = new SlowQueryLogDataSource(h2("fastlog"), slowQueryLog);
+
+        try (Connection connection = dataSource.getConnection();
+             ResultSet rows = connection.createStatement().executeQuery("SELECT 1")) {
+            assertThat(rows.next()).isTrue();
+        }
+        slowQueryLog.close();
+
+        assertThat(events).isEmpty();
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,52 @@
+package com.app.echoboard.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SqlStatementScope unit tests
+ */
+class SqlStatementScopeTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @Test
+    void testRepeatedShapeIsReported() {
+        try (SqlStatementScope scope = SqlStatementScope.open()) {
+            // 同一形状、不同参数的查询视为重复
+            for (int i = 0; i < 5; i++) {
+                counter.inspect("select pm1_0.id from project_members pm1_0 where pm1_0.user_id=" + i);
+            }
+            counter.inspect("select u1_0.id from users u1_0 where u1_0.id in (?, ?, ?)");
+            counter.inspect("select u1_0.id from users u1_0 where u1_0.id in (?, ?)");
+            counter.inspect("update users set name=? where id=?");
+
+            assertThat(scope.statements()).isEqualTo(8);
+            assertThat(scope.repeatedSelects(5))
+                .containsOnlyKeys("select pm1_0.id from project_members pm1_0 where pm1_0.user_id=?");
+            assertThat(scope.repeatedSelects(2))
+                .containsEntry("select u1_0.id from users u1_0 where u1_0.id in (?...)", 2);
+        }
+        assertThat(SqlStatementScope.current()).isNull();
+    }
+
+    @Test
+    void testNestedScopeAddsToOuter() {
+        try (SqlStatementScope outer = SqlStatementScope.open()) {
+            counter.inspect("select 1");
+            try (SqlStatementScope inner = SqlStatementScope.open()) {
+                counter.inspect("select 2");
+                assertThat(inner.statements()).isEqualTo(1);
+            }
+            assertThat(SqlStatementScope.current()).isSameAs(outer);
+            assertThat(outer.statements()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testNoScopeNoCounting() {
+        assertThat(counter.inspect("select 1")).isEqualTo("select 1");
+        assertThat(SqlStatementScope.current()).isNull();
+    }
+}
@@ -0,0 +1,171 @@
+package com.app.echoboard.push;
+
+import com.app.echoboard.dto.BoardDelta;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardPushHub 测试类
+ * 验证变更合并、慢连接的缓冲区溢出重同步以及成员资格撤销
+ */
+class BoardPushHubTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    // 成员资格已结束的用户
+    private final Set<Long> revokedUsers = ConcurrentHashMap.newKeySet();
+
+    private final BoardPushHub hub = new BoardPushHub(properties(), new ObjectMapper(),
+        (projectId, userId) -> !revokedUsers.contains(userId));
+
+    @AfterEach
+    void tearDown() {
+        hub.close();
+    }
+
+    @Test
+    void testChangesWithinWindowAreCoalesced() throws Exception {
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        hub.subscribe(PROJECT_ID, 10L, first);
+        hub.subscribe(PROJECT_ID, 11L, second);
+        assertThat(first.next()).contains("event:subscribed");
+        assertThat(second.next()).contains("event:subscribed");
+
+        // 同一窗口内的10次变更（同一成员变更两次）合并为一条增量
+        for (long userId = 1; userId <= 9; userId++) {
+            hub.memberChanged(PROJECT_ID, member(userId, Role.DEVELOPER));
+        }
+        hub.memberChanged(PROJECT_ID, member(1L, Role.DESIGNER));
+
+        for (RecordingEmitter emitter : List.of(first, second)) {
+            String delta = emitter.next();
+            assertThat(delta).contains("event:delta", "id:1", "\"sequence\":1");
+            assertThat(delta.split("\"userId\"")).hasSize(10);
+            assertThat(delta).contains("\"userId\":1,\"projectRole\":\"DESIGNER\"");
+            assertThat(emitter.events.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        }
+
+        // 没有订阅者的项目不产生增量
+        hub.memberChanged(2L, member(1L, Role.DEVELOPER));
+        assertThat(hub.topics()).isEqualTo(1);
+    }
+
+    @Test
+    void testSlowSubscriberIsResynced() throws Exception {
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.gate = new CountDownLatch(1);
+        hub.subscribe(PROJECT_ID, 10L, slow);
+
+        // 缓冲区为2：第三条增量溢出，缓冲区被替换为 resync
+        for (int i = 1; i <= 4; i++) {
+            hub.memberChanged(PROJECT_ID, member(i, Role.DEVELOPER));
+            Thread.sleep(150);
+        }
+        slow.gate.countDown();
+
+        List<String> received = new ArrayList<>();
+        String event;
+        while ((event = slow.events.poll(500, TimeUnit.MILLISECONDS)) != null) {
+            received.add(event);
+        }
+        assertThat(received).hasSize(3);
+        assertThat(received.get(0)).contains("event:subscribed");
+        assertThat(received.get(1)).contains("event:resync", "\"sequence\":3");
+        assertThat(received.get(2)).contains("event:delta", "id:4");
+    }
+
+    @Test
+    void testRevokedSubscriberIsDisconnected() throws Exception {
+        RecordingEmitter member = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        hub.subscribe(PROJECT_ID, 10L, member);
+        hub.subscribe(PROJECT_ID, 11L, other);
+        assertThat(hub.subscribers()).isEqualTo(2);
+
+        hub.revoke(PROJECT_ID, 10L);
+        assertThat(member.next()).contains("event:subscribed");
+        assertThat(member.next()).contains("event:revoked");
+        assertThat(member.completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(hub.subscribers()).isEqualTo(1);
+        assertThat(other.completed.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRevokeBeforeRegistrationStillClosesTheStream() throws Exception {
+        // 控制器检查通过之后、订阅注册之前成员资格被撤销：撤销时还没有可关闭的连接
+        revokedUsers.add(12L);
+        hub.revoke(PROJECT_ID, 12L);
+
+        RecordingEmitter late = new RecordingEmitter();
+        hub.subscribe(PROJECT_ID, 12L, late);
+        assertThat(late.next()).contains("event:subscribed");
+        assertThat(late.next()).contains("event:revoked");
+        assertThat(late.completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(hub.subscribers()).isZero();
+    }
+
+    private static BoardDelta.MemberState member(long userId, Role role) {
+        return new BoardDelta.MemberState(userId, role, ProjectMember.MemberStatus.ACTIVE, false);
+    }
+
+    private static PushProperties properties() {
+        PushProperties properties = new PushProperties();
+        properties.setCoalesceWindow(Duration.ofMillis(100));
+        properties.setBufferSize(2);
+        return properties;
+    }
+
+    /**
+     * 记录发送内容的 SseEmitter（可阻塞发送以模拟慢连接）
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            events.add(builder.build().stream().map(data -> data.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        String next() throws InterruptedException {
+            String event = events.poll(2, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            return event;
+        }
+    }
+}
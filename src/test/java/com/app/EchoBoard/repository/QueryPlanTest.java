@@ -0,0 +1,175 @@
+package com.app.echoboard.repository;
+
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.monitoring.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 查询计划测试
+ * 调用每条Repository访问路径，捕获Hibernate实际生成的SQL并在种子数据上执行EXPLAIN，出现全表扫描即失败
+ * findByEmailIgnoreCase 依赖 PostgreSQL 的函数索引，H2 不支持，因此不在此列
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:queryplan",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer capturingStatementInspector() {
+            return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new CapturingStatementCounter());
+        }
+    }
+
+    /**
+     * SqlStatementCounter that also keeps the statements prepared on the current thread
+     */
+    static class CapturingStatementCounter extends SqlStatementCounter {
+
+        static final ThreadLocal<List<String>> CAPTURED = ThreadLocal.withInitial(ArrayList::new);
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.get().add(sql);
+            return super.inspect(sql);
+        }
+    }
+
+    // 种子数据在 @DataJpaTest 的事务中写入，测试结束后随事务回滚
+    @BeforeEach
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String[] roles = {"DEVELOPER", "DESIGNER", "PRODUCT_OWNER", "STAKEHOLDER"};
+
+        // 200个用户，一半是GitHub OAuth用户
+        List<Object[]> users = new ArrayList<>();
+        for (long u = 1; u <= 200; u++) {
+            users.add(new Object[]{u, "plan" + u + "@echoboard.com", "Plan User " + u, roles[(int) (u % 4)],
+                u % 2 == 0 ? "github" : null, u % 2 == 0 ? String.valueOf(u) : null, u % 5 != 0, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, name, role, oauth_provider, oauth_id, is_active, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", users);
+
+        // 50个项目（10%公开），每个项目10名成员
+        List<Object[]> projects = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> stats = new ArrayList<>();
+        long memberId = 1;
+        for (long p = 1; p <= 50; p++) {
+            projects.add(new Object[]{p, "Plan Project " + p, p % 7 == 0 ? "ARCHIVED" : "ACTIVE", 1L, p % 10 == 0,
+                "owner" + p, "repo" + p, 10, (int) (p % 11), now});
+            for (long u = 1; u <= 10; u++) {
+                long userId = (p * 10 + u) % 200 + 1;
+                members.add(new Object[]{memberId++, p, userId, roles[(int) (u % 4)], u % 3 == 0 ? "LEFT" : "ACTIVE", "DIRECT", now});
+            }
+            stats.add(new Object[]{p, Math.max(0, 10 - (int) (p % 11))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, name, status, created_by, is_public, github_repo_owner, github_repo_name, " +
+            "max_members, active_member_count, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", projects);
+        jdbcTemplate.batchUpdate("INSERT INTO project_members (id, project_id, user_id, project_role, status, join_method, joined_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)", members);
+        jdbcTemplate.batchUpdate("INSERT INTO project_member_stats (project_id, spare_capacity) VALUES (?, ?)", stats);
+    }
+
+    Stream<Arguments> accessPaths() {
+        return Stream.of(
+            Arguments.of("UserRepository.findByEmail",
+                (Runnable) () -> userRepository.findByEmail("plan7@echoboard.com")),
+            Arguments.of("UserRepository.findExistingEmails",
+                (Runnable) () -> userRepository.findExistingEmails(List.of("plan1@echoboard.com", "plan2@echoboard.com"))),
+            Arguments.of("UserRepository.findByOauthProviderAndOauthId",
+                (Runnable) () -> userRepository.findByOauthProviderAndOauthId("github", "42")),
+            Arguments.of("UserRepository.findByRoleAndIdGreaterThanOrderByIdAsc",
+                (Runnable) () -> userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(Role.DESIGNER, 10L, Limit.of(51), User.class)),
+            Arguments.of("UserRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc",
+                (Runnable) () -> userRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(10L, Limit.of(51), User.class)),
+            Arguments.of("ProjectRepository.findByIsPublicTrueAndStatus",
+                (Runnable) () -> projectRepository.findByIsPublicTrueAndStatus(Project.ProjectStatus.ACTIVE)),
+            Arguments.of("ProjectRepository.findByGithubRepoOwnerAndGithubRepoName",
+                (Runnable) () -> projectRepository.findByGithubRepoOwnerAndGithubRepoName("owner3", "repo3")),
+            Arguments.of("ProjectRepository.findByCreatedById",
+                (Runnable) () -> projectRepository.findByCreatedById(1L)),
+            Arguments.of("ProjectRepository.findProjectsWithMoreThanMembers",
+                (Runnable) () -> projectRepository.findProjectsWithMoreThanMembers(8)),
+            Arguments.of("ProjectRepository.findProjectsCanAddMoreMembers",
+                (Runnable) () -> projectRepository.findProjectsCanAddMoreMembers()),
+            Arguments.of("ProjectMemberRepository.findByProjectIdAndUserId",
+                (Runnable) () -> projectMemberRepository.findByProjectIdAndUserId(3L, 31L)),
+            Arguments.of("ProjectMemberRepository.findByUserAndStatus",
+                (Runnable) () -> projectMemberRepository.findByUserAndStatus(
+                    userRepository.getReferenceById(31L), ProjectMember.MemberStatus.ACTIVE)),
+            Arguments.of("ProjectMemberRepository.findRecentProjectMembers",
+                (Runnable) () -> projectMemberRepository.findRecentProjectMembers(3L)),
+            Arguments.of("ProjectMemberRepository.findActiveProjectMembersByProjectIdAndRole",
+                (Runnable) () -> projectMemberRepository.findActiveProjectMembersByProjectIdAndRole(3L, Role.DESIGNER)),
+            Arguments.of("ProjectMemberRepository.findMembersInvitedByUser",
+                (Runnable) () -> projectMemberRepository.findMembersInvitedByUser(1L))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("accessPaths")
+    void testAccessPathUsesIndex(String accessPath, Runnable access) {
+        // 清空持久化上下文，保证访问路径真正发出SQL而不是命中一级缓存
+        entityManager.clear();
+        List<String> captured = CapturingStatementCounter.CAPTURED.get();
+        captured.clear();
+        access.run();
+
+        assertThat(captured).as("%s should prepare a statement", accessPath).isNotEmpty();
+        for (String sql : captured) {
+            // 未绑定的参数不影响H2选择的访问路径
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+            // H2 marks a sequential scan as "tableScan" in the plan
+            assertThat(plan)
+                .as("%s should use an index, plan was:%n%s", accessPath, plan)
+                .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+}
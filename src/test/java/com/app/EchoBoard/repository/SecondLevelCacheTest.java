@@ -0,0 +1,74 @@
+package com.app.echoboard.repository;
+
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.monitoring.SqlStatementScope;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 二级缓存测试
+ * 用 SqlStatementScope 统计语句数：命中缓存的读取不发出SQL，更新之后读取到的是新数据
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:l2cache")
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        user = userRepository.save(new User("cached@echoboard.com", "Cached User", Role.DESIGNER));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testEntityLookupsHitTheCache() {
+        // 第一次读取查询数据库并放入缓存
+        assertThat(statements(() -> userRepository.findById(user.getId()))).isEqualTo(1);
+        // 之后按主键读取不再发出SQL
+        assertThat(statements(() -> userRepository.findById(user.getId()))).isZero();
+
+        // 更新后缓存项随之更新，不会读到旧名字
+        User loaded = userRepository.findById(user.getId()).orElseThrow();
+        loaded.setName("Renamed User");
+        userRepository.save(loaded);
+        assertThat(statements(() -> userRepository.findById(user.getId()).orElseThrow().getName())).isZero();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getName()).isEqualTo("Renamed User");
+    }
+
+    @Test
+    void testUpdateInvalidatesCachedQueryResults() {
+        assertThat(statements(() -> userRepository.findByRole(Role.DESIGNER))).isEqualTo(1);
+        assertThat(statements(() -> userRepository.findByRole(Role.DESIGNER))).isZero();
+
+        // 更新 users 表后查询缓存失效，重新查询数据库
+        User loaded = userRepository.findById(user.getId()).orElseThrow();
+        loaded.setName("Query Cache User");
+        userRepository.save(loaded);
+        assertThat(statements(() -> userRepository.findByRole(Role.DESIGNER))).isEqualTo(1);
+        assertThat(userRepository.findByRole(Role.DESIGNER)).extracting(User::getName).containsExactly("Query Cache User");
+    }
+
+    private static int statements(Supplier<?> lookup) {
+        try (SqlStatementScope scope = SqlStatementScope.open()) {
+            lookup.get();
+            return scope.statements();
+        }
+    }
+}
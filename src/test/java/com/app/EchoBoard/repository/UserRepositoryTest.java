@@ -5,8 +5,10 @@ import com.app.echoboard.model.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,4 +98,25 @@ class UserRepositoryTest {
         assertThat(foundUser.get().getOauthId()).isEqualTo("12345");
         assertThat(foundUser.get().isOAuthUser()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testKeysetPagination() {
+        // 创建5个用户
+        for (int i = 1; i <= 5; i++) {
+            userRepository.save(new User("page" + i + "@test.com", "Page User " + i, Role.DEVELOPER));
+        }
+
+        // 第一页
+        List<User> firstPage = userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2), User.class);
+        assertThat(firstPage).hasSize(2);
+
+        // 从上一页最后一个ID继续
+        Long lastId = firstPage.get(1).getId();
+        List<User> secondPage = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(2), User.class);
+
+        // 验证结果：不重复且按ID递增
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage.get(0).getId()).isGreaterThan(lastId);
+        assertThat(secondPage).extracting(User::getId).isSorted();
+    }
+}
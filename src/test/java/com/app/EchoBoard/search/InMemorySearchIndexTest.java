@@ -0,0 +1,65 @@
+package com.app.echoboard.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InMemorySearchIndex unit tests
+ */
+class InMemorySearchIndexTest {
+
+    @Test
+    void testSubstringMatchRankedTitleFirst() {
+        InMemorySearchIndex index = new InMemorySearchIndex();
+        index.put(SearchType.PROJECT, new SearchDocument(1L, "Mobile Redesign", "New onboarding flow"));
+        index.put(SearchType.PROJECT, new SearchDocument(2L, "Billing", "Redesign of the invoice page"));
+        index.put(SearchType.PROJECT, new SearchDocument(3L, "Website", "Landing page copy"));
+
+        SearchResults results = index.search(SearchType.PROJECT, "REDESIGN", 0, 10);
+
+        // 名称命中排在描述命中之前
+        assertThat(results.total()).isEqualTo(2);
+        assertThat(results.hits()).extracting(SearchHit::id).containsExactly(1L, 2L);
+        assertThat(results.hits().get(0).title()).isEqualTo("Mobile Redesign");
+
+        // 3个字符以上按子串匹配（与 LIKE '%q%' 一致）
+        assertThat(index.search(SearchType.PROJECT, "esig", 0, 10).total()).isEqualTo(2);
+        assertThat(index.search(SearchType.PROJECT, "nothing here", 0, 10).hits()).isEmpty();
+    }
+
+    @Test
+    void testTwoCharacterQueryMatchesWordPrefix() {
+        InMemorySearchIndex index = new InMemorySearchIndex();
+        index.put(SearchType.USER, new SearchDocument(1L, "Ada Lovelace"));
+        index.put(SearchType.USER, new SearchDocument(2L, "Grace Hopper"));
+
+        assertThat(index.search(SearchType.USER, "lo", 0, 10).hits()).extracting(SearchHit::id).containsExactly(1L);
+        // "ce" 只出现在词中间
+        assertThat(index.search(SearchType.USER, "ce", 0, 10).hits()).isEmpty();
+        assertThat(index.search(SearchType.USER, "a", 0, 10).hits()).isEmpty();
+    }
+
+    @Test
+    void testUpdateRemoveAndPaging() {
+        InMemorySearchIndex index = new InMemorySearchIndex();
+        for (long id = 1; id <= 25; id++) {
+            index.put(SearchType.PROJECT, new SearchDocument(id, "Echo Project " + id, null));
+        }
+
+        SearchResults second = index.search(SearchType.PROJECT, "echo", 1, 10);
+        assertThat(second.total()).isEqualTo(25);
+        assertThat(second.hits()).hasSize(10);
+        assertThat(index.search(SearchType.PROJECT, "echo", 2, 10).hits()).hasSize(5);
+
+        // 改名后旧词不再命中
+        index.put(SearchType.PROJECT, new SearchDocument(1L, "Renamed", null));
+        assertThat(index.search(SearchType.PROJECT, "echo", 0, 30).total()).isEqualTo(24);
+        assertThat(index.search(SearchType.PROJECT, "renamed", 0, 10).hits()).extracting(SearchHit::id).containsExactly(1L);
+
+        index.remove(SearchType.PROJECT, 1L);
+        assertThat(index.search(SearchType.PROJECT, "renamed", 0, 10).hits()).isEmpty();
+        assertThat(index.size(SearchType.PROJECT)).isEqualTo(24);
+        assertThat(index.size(SearchType.USER)).isZero();
+    }
+}
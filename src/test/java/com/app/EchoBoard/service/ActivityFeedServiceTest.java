@@ -0,0 +1,154 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.config.FeedConfig;
+import com.app.echoboard.dto.FeedCursor;
+import com.app.echoboard.dto.FeedItem;
+import com.app.echoboard.feed.ActivityOutbox;
+import com.app.echoboard.model.OutboxEvent;
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.OutboxEventRepository;
+import com.app.echoboard.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * ActivityFeedService 测试类
+ * 验证发件箱写入、分发到每个用户的动态列表以及长度上限
+ */
+@DataJpaTest(properties = "echoboard.feed.max-entries=3")
+@ActiveProfiles("test")
+@Import({ActivityFeedService.class, ActivityOutbox.class, ProjectMembershipService.class, ProjectService.class, FeedConfig.class})
+class ActivityFeedServiceTest {
+
+    @Autowired
+    private ActivityFeedService activityFeedService;
+
+    @Autowired
+    private ProjectMembershipService projectMembershipService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testOutboxFansOutIntoCappedFeeds() {
+        User owner = userRepository.save(new User("owner@feed.com", "Owner", Role.PRODUCT_OWNER));
+        User dev = userRepository.save(new User("dev@feed.com", "Developer", Role.DEVELOPER));
+        Long projectId = projectService.createProject("Feed Project", null, owner.getId()).getId();
+
+        // 成员变更和项目状态变更都在同一事务中写入发件箱
+        projectMembershipService.addMember(projectId, owner.getId(), Role.PRODUCT_OWNER, null);
+        projectMembershipService.addMember(projectId, dev.getId(), Role.DEVELOPER, owner.getId());
+        projectMembershipService.changeRole(projectId, dev.getId(), Role.DESIGNER);
+        projectMembershipService.leave(projectId, dev.getId());
+        projectService.changeStatus(projectId, Project.ProjectStatus.ARCHIVED);
+        assertThat(outboxEventRepository.count()).isEqualTo(5);
+
+        assertThat(activityFeedService.dispatchPending()).isEqualTo(5);
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(activityFeedService.dispatchPending()).isZero();
+
+        // 负责人的动态按时间倒序，并被截断为最近3条
+        List<FeedItem> ownerFeed = activityFeedService.feed(owner.getId(), null, 10);
+        assertThat(ownerFeed)
+            .extracting(FeedItem::type, FeedItem::subjectUserName, FeedItem::detail)
+            .containsExactly(
+                tuple(OutboxEvent.Type.PROJECT_STATUS_CHANGED, null, "ARCHIVED"),
+                tuple(OutboxEvent.Type.MEMBER_LEFT, "Developer", "DESIGNER"),
+                tuple(OutboxEvent.Type.MEMBER_ROLE_CHANGED, "Developer", "DESIGNER"));
+        assertThat(ownerFeed).allMatch(item -> "Feed Project".equals(item.projectName()));
+
+        // 离开的成员能看到自己的离开事件，但看不到之后的项目变更
+        List<FeedItem> devFeed = activityFeedService.feed(dev.getId(), null, 10);
+        assertThat(devFeed.get(0).type()).isEqualTo(OutboxEvent.Type.MEMBER_LEFT);
+
+        // 键集分页：从上一页最后一条之后继续
+        List<FeedItem> firstPage = activityFeedService.feed(owner.getId(), null, 2);
+        List<FeedItem> secondPage = activityFeedService.feed(owner.getId(), FeedCursor.of(firstPage.get(1)), 2);
+        assertThat(secondPage).extracting(FeedItem::type).containsExactly(OutboxEvent.Type.MEMBER_ROLE_CHANGED);
+    }
+
+    @Test
+    void testDeactivateAllRecordsALeavePerMember() {
+        User owner = userRepository.save(new User("owner@bulk.com", "Owner", Role.PRODUCT_OWNER));
+        User dev = userRepository.save(new User("dev@bulk.com", "Developer", Role.DEVELOPER));
+        Long projectId = projectService.createProject("Bulk Project", null, owner.getId()).getId();
+        projectMembershipService.addMember(projectId, owner.getId(), Role.PRODUCT_OWNER, null);
+        projectMembershipService.addMember(projectId, dev.getId(), Role.DEVELOPER, owner.getId());
+        projectMembershipService.leave(projectId, dev.getId());
+        projectMembershipService.reactivate(projectId, dev.getId());
+
+        // 一条语句停用所有成员，每个活跃成员各记录一条离开事件（开发者的第一条来自之前的主动离开）
+        projectMembershipService.deactivateAll(projectId);
+        assertThat(outboxEventRepository.findAll())
+            .filteredOn(event -> event.getType() == OutboxEvent.Type.MEMBER_LEFT)
+            .extracting(OutboxEvent::getSubjectUserId, OutboxEvent::getDetail)
+            .containsExactlyInAnyOrder(
+                tuple(dev.getId(), "DEVELOPER"),
+                tuple(dev.getId(), "DEVELOPER"),
+                tuple(owner.getId(), "PRODUCT_OWNER"));
+
+        activityFeedService.dispatchPending();
+
+        // 项目已无活跃成员，离开事件仍进入各自的动态
+        assertThat(activityFeedService.feed(owner.getId(), null, 1))
+            .extracting(FeedItem::type, FeedItem::subjectUserName)
+            .containsExactly(tuple(OutboxEvent.Type.MEMBER_LEFT, "Owner"));
+        assertThat(activityFeedService.feed(dev.getId(), null, 1))
+            .extracting(FeedItem::type, FeedItem::subjectUserName)
+            .containsExactly(tuple(OutboxEvent.Type.MEMBER_LEFT, "Developer"));
+    }
+
+    @Test
+    void testFeedIsOrderedByOccurrenceNotId() {
+        User owner = userRepository.save(new User("owner@order.com", "Owner", Role.PRODUCT_OWNER));
+        Long projectId = projectService.createProject("Order Project", null, owner.getId()).getId();
+        projectMembershipService.addMember(projectId, owner.getId(), Role.PRODUCT_OWNER, null);
+        projectService.changeStatus(projectId, Project.ProjectStatus.ARCHIVED);
+        projectService.changeStatus(projectId, Project.ProjectStatus.ACTIVE);
+        projectService.changeStatus(projectId, Project.ProjectStatus.DELETED);
+
+        // 模拟多个分发器：ID较小的事件实际发生得更晚
+        entityManager.flush();
+        Long joinedEventId = jdbcTemplate.queryForObject(
+            "SELECT id FROM outbox_events WHERE event_type = 'MEMBER_JOINED'", Long.class);
+        jdbcTemplate.update("UPDATE outbox_events SET occurred_at = ? WHERE id = ?",
+            Timestamp.valueOf(LocalDateTime.now().plusMinutes(5)), joinedEventId);
+        entityManager.clear();
+        activityFeedService.dispatchPending();
+
+        // 按发生时间倒序；截断为3条时保留的是最新发生的事件
+        List<FeedItem> feed = activityFeedService.feed(owner.getId(), null, 10);
+        assertThat(feed).extracting(FeedItem::type, FeedItem::detail).containsExactly(
+            tuple(OutboxEvent.Type.MEMBER_JOINED, "PRODUCT_OWNER"),
+            tuple(OutboxEvent.Type.PROJECT_STATUS_CHANGED, "DELETED"),
+            tuple(OutboxEvent.Type.PROJECT_STATUS_CHANGED, "ACTIVE"));
+        assertThat(activityFeedService.feed(owner.getId(), FeedCursor.of(feed.get(0)), 10))
+            .containsExactlyElementsOf(feed.subList(1, 3));
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 并发加入项目测试
+ * 每次加入先锁定项目行，计数、聚合行和容量检查在并发下保持一致，不会超员
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:membershipconcurrency;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class ProjectMembershipConcurrencyTest {
+
+    private static final int MAX_MEMBERS = 5;
+    private static final int JOINERS = 12;
+
+    @Autowired
+    private ProjectMembershipService projectMembershipService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testConcurrentJoinsRespectCapacity() throws Exception {
+        User owner = userRepository.save(new User("owner@concurrent.com", "Owner", Role.PRODUCT_OWNER));
+        Project project = projectService.createProject("Concurrent Project", null, owner.getId());
+        Long projectId = projectService.updateMaxMembers(project.getId(), MAX_MEMBERS).getId();
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            userIds.add(userRepository.save(new User("joiner" + i + "@concurrent.com", "Joiner " + i, Role.DEVELOPER)).getId());
+        }
+
+        // 所有线程同时开始加入
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(JOINERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        projectMembershipService.addMember(projectId, userId, Role.DEVELOPER, null);
+                        joined.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 恰好加入 MAX_MEMBERS 人，其余因容量被拒绝
+        assertThat(joined.get()).isEqualTo(MAX_MEMBERS);
+        assertThat(rejected.get()).isEqualTo(JOINERS - MAX_MEMBERS);
+
+        // 直接读取数据库中的计数列，与成员表和聚合行一致
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT active_member_count FROM projects WHERE id = ?", Integer.class, projectId)).isEqualTo(MAX_MEMBERS);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM project_members WHERE project_id = ? AND status = 'ACTIVE'", Integer.class, projectId))
+            .isEqualTo(MAX_MEMBERS);
+        assertThat(jdbcTemplate.queryForMap(
+            "SELECT developer_count, spare_capacity FROM project_member_stats WHERE project_id = ?", projectId))
+            .containsEntry("DEVELOPER_COUNT", MAX_MEMBERS)
+            .containsEntry("SPARE_CAPACITY", 0);
+    }
+}
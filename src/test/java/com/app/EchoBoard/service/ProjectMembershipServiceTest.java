@@ -0,0 +1,108 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.feed.ActivityOutbox;
+import com.app.echoboard.model.Project;
+import com.app.echoboard.model.ProjectMember;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.model.ProjectMemberStats;
+import com.app.echoboard.repository.ProjectMemberStatsRepository;
+import com.app.echoboard.repository.ProjectRepository;
+import com.app.echoboard.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ProjectMembershipService 测试类
+ * 验证活跃成员计数和容量检查
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProjectMembershipService.class, ProjectService.class, ActivityOutbox.class})
+class ProjectMembershipServiceTest {
+
+    @Autowired
+    private ProjectMembershipService projectMembershipService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberStatsRepository projectMemberStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void testActiveMemberCountFollowsLifecycle() {
+        // 创建项目（最多2名成员）和3个用户
+        User owner = userRepository.save(new User("owner@test.com", "Owner", Role.PRODUCT_OWNER));
+        User dev = userRepository.save(new User("dev@test.com", "Developer", Role.DEVELOPER));
+        User designer = userRepository.save(new User("designer@test.com", "Designer", Role.DESIGNER));
+        Project project = new Project("Capacity Project", null, owner);
+        project.setMaxMembers(2);
+        project = projectRepository.save(project);
+        Long projectId = project.getId();
+
+        // 加入两名成员
+        projectMembershipService.addMember(projectId, owner.getId(), Role.PRODUCT_OWNER, null);
+        projectMembershipService.addMember(projectId, dev.getId(), Role.DEVELOPER, owner.getId());
+        assertThat(reload(projectId).getMemberCount()).isEqualTo(2);
+        ProjectMemberStats stats = projectMemberStatsRepository.findById(projectId).get();
+        assertThat(stats.countForRole(Role.DEVELOPER)).isEqualTo(1);
+        assertThat(stats.getSpareCapacity()).isZero();
+        assertThat(stats.getLastJoinedAt()).isNotNull();
+        assertThat(projectRepository.findProjectsCanAddMoreMembers()).isEmpty();
+        assertThat(projectRepository.findProjectsWithMoreThanMembers(1)).extracting(Project::getId).containsExactly(projectId);
+
+        // 已满：第三名成员被拒绝
+        assertThatThrownBy(() -> projectMembershipService.addMember(projectId, designer.getId(), Role.DESIGNER, null))
+            .isInstanceOf(IllegalStateException.class);
+
+        // 离开和暂停都会减少计数
+        projectMembershipService.leave(projectId, dev.getId());
+        assertThat(reload(projectId).getMemberCount()).isEqualTo(1);
+        ProjectMember suspended = projectMembershipService.suspend(projectId, owner.getId());
+        assertThat(suspended.getStatus()).isEqualTo(ProjectMember.MemberStatus.SUSPENDED);
+        assertThat(reload(projectId).getMemberCount()).isZero();
+
+        // 重新激活会增加计数
+        projectMembershipService.reactivate(projectId, dev.getId());
+        assertThat(reload(projectId).canAddMoreMembers()).isTrue();
+        assertThat(reload(projectId).getMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testNewProjectHasAggregateRow() {
+        // 新建项目即有聚合行：尚无成员时也能查到可加入的项目
+        User owner = userRepository.save(new User("creator@test.com", "Creator", Role.PRODUCT_OWNER));
+        Project project = reload(projectService.createProject("Empty Project", null, owner.getId()).getId());
+
+        assertThat(projectMemberStatsRepository.findById(project.getId()).get().getSpareCapacity())
+            .isEqualTo(project.getMaxMembers());
+        assertThat(projectRepository.findProjectsCanAddMoreMembers()).extracting(Project::getId).containsExactly(project.getId());
+        assertThat(projectRepository.findProjectsWithMoreThanMembers(0)).isEmpty();
+    }
+
+    /**
+     * Flush pending changes and read the project back from the database rather than the persistence context
+     */
+    private Project reload(Long projectId) {
+        entityManager.flush();
+        entityManager.clear();
+        return projectRepository.findById(projectId).get();
+    }
+}
@@ -0,0 +1,44 @@
+package com.app.echoboard.service;
+
+import com.app.echoboard.dto.UserVersion;
+import com.app.echoboard.model.Role;
+import com.app.echoboard.model.User;
+import com.app.echoboard.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserResponseCache 测试类
+ * 版本查询之后用户被修改时，返回的版本必须与实际序列化的实体一致
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:responsecache")
+@ActiveProfiles("test")
+class UserResponseCacheTest {
+
+    @Autowired
+    private UserResponseCache userResponseCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testServedVersionFollowsLoadedEntity() {
+        User user = userRepository.save(new User("etag@echoboard.com", "Before Rename", Role.DEVELOPER));
+        UserVersion queried = UserVersion.of(user);
+
+        // 版本查询之后、加载实体之前发生了修改
+        user.setName("After Rename");
+        User renamed = userRepository.save(user);
+
+        UserResponseCache.VersionedJson served = userResponseCache.json(queried).orElseThrow();
+        assertThat(served.version()).isEqualTo(UserVersion.of(renamed)).isNotEqualTo(queried);
+        assertThat(new String(served.json())).contains("After Rename");
+
+        // 之后按新版本命中缓存
+        assertThat(userResponseCache.json(served.version()).orElseThrow().json()).isSameAs(served.json());
+    }
+}